@@ -0,0 +1,50 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const EMAIL = __ENV.EMAIL || 'user@i.ua';
+const PASSWORD = __ENV.PASSWORD || 'qwerty123';
+const CATEGORY_ID = __ENV.CATEGORY_ID || '1';
+
+export const options = {
+    scenarios: {
+        spike: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: 200, duration: '30s' },
+                { target: 1000, duration: '30s' },
+                { target: 1000, duration: '1m' },
+                { target: 50, duration: '30s' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'logged in': (r) => r.status === 200 });
+    return { token: response.json('token') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/books?page=0&size=20`, null, params],
+        ['GET', `${BASE_URL}/books/search?title=book`, null, params],
+        ['GET', `${BASE_URL}/categories/${CATEGORY_ID}/books`, null, params],
+        ['GET', `${BASE_URL}/cart`, null, params],
+        ['GET', `${BASE_URL}/orders/cursor?size=10`, null, params],
+    ]);
+    responses.forEach((response) => check(response, { 'status is 2xx': (r) => r.status < 300 }));
+    sleep(0.1);
+}
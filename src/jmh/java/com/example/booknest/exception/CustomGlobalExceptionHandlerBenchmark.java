@@ -0,0 +1,65 @@
+package com.example.booknest.exception;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomGlobalExceptionHandlerBenchmark {
+    private static final String OBJECT_NAME = "createBookRequestDto";
+    private final CustomGlobalExceptionHandler exceptionHandler =
+            new CustomGlobalExceptionHandler();
+    private final EntityNotFoundException entityNotFoundException =
+            new EntityNotFoundException("Can't find book by id: 1");
+    private MethodArgumentNotValidException methodArgumentNotValidException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        BindingResult bindingResult = new BeanPropertyBindingResult(null, OBJECT_NAME);
+        bindingResult.addError(new FieldError(OBJECT_NAME, "title", "may not be blank"));
+        bindingResult.addError(new FieldError(OBJECT_NAME, "price", "must be positive"));
+        bindingResult.addError(new FieldError(OBJECT_NAME, "isbn", "invalid ISBN format"));
+        MethodParameter parameter = new MethodParameter(
+                CustomGlobalExceptionHandlerBenchmark.class.getDeclaredMethod(
+                        "createBook", CreateBookRequestDto.class), 0);
+        methodArgumentNotValidException =
+                new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> handleMethodArgumentNotValid() {
+        return exceptionHandler.handleMethodArgumentNotValid(
+                methodArgumentNotValidException, HttpHeaders.EMPTY,
+                HttpStatus.BAD_REQUEST, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> handleEntityNotFoundException() {
+        return exceptionHandler.handleEntityNotFoundException(entityNotFoundException);
+    }
+
+    private static void createBook(CreateBookRequestDto requestDto) {
+    }
+}
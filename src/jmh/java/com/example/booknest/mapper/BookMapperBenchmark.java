@@ -0,0 +1,64 @@
+package com.example.booknest.mapper;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.mapper.impl.BookMapperImpl;
+import com.example.booknest.model.Book;
+import com.example.booknest.model.Category;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookMapperBenchmark {
+    @Param({"20", "100"})
+    private int size;
+    @Param({"3"})
+    private int categoriesPerBook;
+    private final BookMapper bookMapper = new BookMapperImpl();
+    private List<Book> books;
+
+    @Setup
+    public void setUp() {
+        books = LongStream.rangeClosed(1, size)
+                .mapToObj(this::getBook)
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookDto> toDtoList() {
+        return bookMapper.toDtoList(books);
+    }
+
+    private Book getBook(long id) {
+        Book book = new Book()
+                .setId(id)
+                .setTitle("Sample Book " + id)
+                .setAuthor("Author " + id)
+                .setIsbn("978-1-23-456789-" + id)
+                .setPrice(BigDecimal.valueOf(19.99))
+                .setDescription("This is a sample book description.")
+                .setCoverImage("http://example.com/cover" + id + ".jpg");
+        book.setCategories(new HashSet<>(LongStream.rangeClosed(1, categoriesPerBook)
+                .mapToObj(categoryId -> new Category().setId(categoryId))
+                .toList()));
+        return book;
+    }
+}
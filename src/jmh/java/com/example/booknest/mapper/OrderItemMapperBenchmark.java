@@ -0,0 +1,46 @@
+package com.example.booknest.mapper;
+
+import com.example.booknest.mapper.impl.OrderItemMapperImpl;
+import com.example.booknest.model.Book;
+import com.example.booknest.model.CartItem;
+import com.example.booknest.model.OrderItem;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderItemMapperBenchmark {
+    private final OrderItemMapper orderItemMapper = new OrderItemMapperImpl();
+    private CartItem cartItem;
+
+    @Setup
+    public void setUp() {
+        Book book = new Book()
+                .setId(1L)
+                .setTitle("Sample Book 1")
+                .setPrice(BigDecimal.valueOf(19.99));
+        cartItem = new CartItem()
+                .setId(book.getId())
+                .setBook(book)
+                .setQuantity(3);
+    }
+
+    @Benchmark
+    public OrderItem toEntityFromCartItem() {
+        return orderItemMapper.toEntityFromCartItem(cartItem);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.booknest.search;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.book.BookSearchParametersDto;
+import com.example.booknest.mapper.impl.BookMapperImpl;
+import com.example.booknest.model.Book;
+import com.example.booknest.repository.book.BookRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookSearchEngineBenchmark {
+    private static final Pageable PAGEABLE = PageRequest.of(0, 20, Sort.by("title"));
+
+    @Param({"1000", "100000"})
+    private int size;
+    private final BookSearchParametersDto allParameters = new BookSearchParametersDto(
+            "Sample Book 1", "Author 1", "978-1-23-456789-1");
+    private final BookSearchParametersDto titleOnly = new BookSearchParametersDto(
+            "Sample Book", null, null);
+    private BookSearchEngine bookSearchEngine;
+
+    @Setup
+    public void setUp() {
+        List<Book> books = LongStream.rangeClosed(1, size)
+                .mapToObj(this::getBook)
+                .toList();
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findAllWithCategories()).thenReturn(books);
+        bookSearchEngine = new BookSearchEngine(bookRepository, new BookMapperImpl());
+        bookSearchEngine.rebuild();
+    }
+
+    @Benchmark
+    public List<BookDto> searchAllParameters() {
+        return bookSearchEngine.search(allParameters, PAGEABLE);
+    }
+
+    @Benchmark
+    public List<BookDto> searchTitleOnly() {
+        return bookSearchEngine.search(titleOnly, PAGEABLE);
+    }
+
+    private Book getBook(long id) {
+        return new Book()
+                .setId(id)
+                .setTitle("Sample Book " + id)
+                .setAuthor("Author " + id % 100)
+                .setIsbn("978-1-23-456789-" + id)
+                .setPrice(BigDecimal.valueOf(19.99));
+    }
+}
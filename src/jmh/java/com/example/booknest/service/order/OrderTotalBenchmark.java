@@ -0,0 +1,49 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.model.Book;
+import com.example.booknest.model.CartItem;
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderTotalBenchmark {
+    @Param({"5", "50"})
+    private int size;
+    private Set<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cartItems = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new CartItem()
+                        .setId(id)
+                        .setBook(new Book()
+                                .setId(id)
+                                .setPrice(BigDecimal.valueOf(1999 + id, 2)))
+                        .setQuantity((int) (id % 4) + 1))
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public BigDecimal totalOf() {
+        return OrderTotals.of(cartItems);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.booknest.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BookExportDataSourceConfig {
+    public static final String BOOK_EXPORT = "bookExport";
+
+    @Bean(defaultCandidate = false)
+    @Qualifier(BOOK_EXPORT)
+    public HikariDataSource bookExportDataSource(DataSourceProperties properties,
+            @Value("${book-export.pool-size}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("book-export");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("useCursorFetch", "true");
+        return dataSource;
+    }
+}
@@ -36,8 +36,11 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(
                         auth -> auth
+                                .requestMatchers("/actuator/prometheus")
+                                .hasRole("ADMIN")
                                 .requestMatchers(
                                         "/auth/**",
+                                        "/actuator/health",
                                         "/error",
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**")
@@ -3,18 +3,37 @@ package com.example.booknest.controller;
 import com.example.booknest.dto.book.BookDto;
 import com.example.booknest.dto.book.BookSearchParametersDto;
 import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.dto.bookimport.BookImportResultDto;
+import com.example.booknest.dto.facet.BookFacetSearchParametersDto;
+import com.example.booknest.dto.facet.BookFacetSearchResultDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import com.example.booknest.search.CategoryMatch;
 import com.example.booknest.service.book.BookService;
+import com.example.booknest.service.bookexport.BookExportFormat;
+import com.example.booknest.service.bookexport.BookExportService;
+import com.example.booknest.service.bookimport.BookImportService;
+import com.example.booknest.statement.StatementBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,9 +42,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,9 +57,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class BookController {
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all books",
             description = "Getting a list of all available books")
     @PreAuthorize("hasRole('USER')")
@@ -45,32 +69,113 @@ public class BookController {
                                         size = 5,
                                         sort = "title",
                                         direction = Sort.Direction.ASC)
-                                Pageable pageable) {
+                                Pageable pageable,
+                                WebRequest webRequest) {
+        if (webRequest.checkNotModified(bookService.getPageEntityTag(pageable))) {
+            return null;
+        }
         return bookService.findAll(pageable);
     }
 
-    @GetMapping("/{bookId}")
+    @GetMapping("/cursor")
     @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get all books by cursor",
+            description = "Getting a page of books ordered by title after the given cursor")
+    @PreAuthorize("hasRole('USER')")
+    public CursorPageDto<BookDto> getAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) int size) {
+        return bookService.findAllByCursor(cursor, size);
+    }
+
+    @GetMapping("/by-categories")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get all books by categories",
+            description = "Getting books that belong to all (ALL) or any (ANY) of the categories")
+    @PreAuthorize("hasRole('USER')")
+    public List<BookDto> getAllByCategories(
+            @RequestParam @NotEmpty @Size(max = 50) Set<@Positive Long> categoryIds,
+            @RequestParam(defaultValue = "ALL") CategoryMatch match,
+            @ParameterObject
+            @PageableDefault(
+                    size = 5,
+                    sort = "title",
+                    direction = Sort.Direction.ASC)
+            Pageable pageable) {
+        return bookService.findAllByCategoryIds(categoryIds, match, pageable);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all books",
+            description = "Streaming the whole catalog with category ids as NDJSON or CSV")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(defaultValue = "NDJSON") BookExportFormat format) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"books." + format.getFileExtension() + "\"")
+                .body(outputStream -> bookExportService.exportBooks(outputStream, format));
+    }
+
+    @GetMapping("/{bookId}")
     @Operation(summary = "Get a book by id",
             description = "Getting a book by id if available")
     @PreAuthorize("hasRole('USER')")
-    public BookDto getBookById(@PathVariable @Positive Long bookId) {
+    public BookDto getBookById(@PathVariable @Positive Long bookId,
+                               WebRequest webRequest) {
+        if (webRequest.checkNotModified(bookService.getEntityTag(bookId))) {
+            return null;
+        }
         return bookService.findById(bookId);
     }
 
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all books by parameters",
-            description = "Getting a list of all books according to the parameters")
+            description = "Getting a list of all books according to the parameters. "
+                    + "With fuzzy=true misspelled title and author words also match "
+                    + "and the closest books come first")
     @PreAuthorize("hasRole('USER')")
     public List<BookDto> searchBooks(BookSearchParametersDto searchParameters,
+                                     @RequestParam(defaultValue = "false") boolean fuzzy,
                                      @ParameterObject
                                      @PageableDefault(
                                              size = 5,
                                              sort = "title",
                                              direction = Sort.Direction.ASC)
                                      Pageable pageable) {
-        return bookService.searchByParameters(searchParameters, pageable);
+        return fuzzy
+                ? bookService.fuzzySearch(searchParameters, pageable)
+                : bookService.searchByParameters(searchParameters, pageable);
+    }
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get title and author suggestions",
+            description = "Getting the most popular titles and authors starting with the prefix")
+    @PreAuthorize("hasRole('USER')")
+    public List<BookSuggestionDto> suggest(
+            @RequestParam @NotBlank @Size(max = 100) String prefix,
+            @RequestParam(defaultValue = "10") @Positive @Max(20) int limit) {
+        return bookService.suggest(prefix, limit);
+    }
+
+    @GetMapping("/faceted-search")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get books and facet counts by parameters",
+            description = "Getting a page of books together with category, author "
+                    + "and price band counts for the same search")
+    @PreAuthorize("hasRole('USER')")
+    public BookFacetSearchResultDto searchBooksWithFacets(
+            @Valid BookFacetSearchParametersDto searchParameters,
+            @ParameterObject
+            @PageableDefault(
+                    size = 5,
+                    sort = "title",
+                    direction = Sort.Direction.ASC)
+            Pageable pageable) {
+        return bookService.searchWithFacets(searchParameters, pageable);
     }
 
     @PostMapping
@@ -82,6 +187,19 @@ public class BookController {
         return bookService.save(bookDto);
     }
 
+    @PostMapping(value = "/import",
+            consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Import books",
+            description = "Creating or updating books by ISBN from a streamed CSV or NDJSON file")
+    @PreAuthorize("hasRole('ADMIN')")
+    @StatementBudget(StatementBudget.UNLIMITED)
+    public BookImportResultDto importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream inputStream) {
+        return bookImportService.importBooks(inputStream, contentType);
+    }
+
     @PutMapping("/{bookId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Update a book by id",
@@ -1,13 +1,16 @@
 package com.example.booknest.controller;
 
 import com.example.booknest.dto.book.BookDtoWithoutCategoryIds;
+import com.example.booknest.dto.category.CategoryBookCountDto;
 import com.example.booknest.dto.category.CategoryDto;
 import com.example.booknest.dto.category.CreateCategoryRequestDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
 import com.example.booknest.service.book.BookService;
 import com.example.booknest.service.category.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +28,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,7 +43,6 @@ public class CategoryController {
     private final BookService bookService;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all categories",
             description = "Getting a list of all available categories")
     @PreAuthorize("hasRole('USER')")
@@ -47,21 +51,36 @@ public class CategoryController {
                                             size = 5,
                                             sort = "id",
                                             direction = Sort.Direction.ASC)
-                                    Pageable pageable) {
+                                    Pageable pageable,
+                                    WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getPageEntityTag(pageable))) {
+            return null;
+        }
         return categoryService.findAll(pageable);
     }
 
-    @GetMapping("/{categoryId}")
+    @GetMapping("/book-counts")
     @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get book counts by category",
+            description = "Getting the number of books in every category that has books")
+    @PreAuthorize("hasRole('USER')")
+    public List<CategoryBookCountDto> getBookCounts() {
+        return categoryService.getBookCounts();
+    }
+
+    @GetMapping("/{categoryId}")
     @Operation(summary = "Get a category by id",
             description = "Getting a category by id if available")
     @PreAuthorize("hasRole('USER')")
-    public CategoryDto getCategoryById(@PathVariable @Positive Long categoryId) {
+    public CategoryDto getCategoryById(@PathVariable @Positive Long categoryId,
+                                       WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getEntityTag(categoryId))) {
+            return null;
+        }
         return categoryService.findById(categoryId);
     }
 
     @GetMapping("/{categoryId}/books")
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all books by category id",
             description = "Getting all books by category id if available")
     @PreAuthorize("hasRole('USER')")
@@ -71,10 +90,27 @@ public class CategoryController {
                     size = 5,
                     sort = "title",
                     direction = Sort.Direction.ASC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(
+                bookService.getCategoryPageEntityTag(categoryId, pageable))) {
+            return null;
+        }
         return bookService.findAllByCategoryId(categoryId, pageable);
     }
 
+    @GetMapping("/{categoryId}/books/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get all books by category id and cursor",
+            description = "Getting a page of books by category id after the given cursor")
+    @PreAuthorize("hasRole('USER')")
+    public CursorPageDto<BookDtoWithoutCategoryIds> getBooksByCategoryIdAndCursor(
+            @PathVariable @Positive Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) int size) {
+        return bookService.findAllByCategoryIdAndCursor(categoryId, cursor, size);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Create a new category",
@@ -1,15 +1,23 @@
 package com.example.booknest.controller;
 
+import com.example.booknest.dto.order.BulkUpdateOrderStatusRequestDto;
+import com.example.booknest.dto.order.BulkUpdateOrderStatusResponseDto;
 import com.example.booknest.dto.order.CreateOrderRequestDto;
 import com.example.booknest.dto.order.OrderDto;
 import com.example.booknest.dto.order.UpdateOrderRequestDto;
 import com.example.booknest.dto.orderitem.OrderItemDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
 import com.example.booknest.model.User;
+import com.example.booknest.service.order.OrderBulkStatusService;
+import com.example.booknest.service.order.OrderIdempotencyService;
 import com.example.booknest.service.order.OrderService;
+import com.example.booknest.statement.StatementBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -27,7 +35,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -38,13 +48,19 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class OrderController {
     private final OrderService orderService;
+    private final OrderBulkStatusService orderBulkStatusService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Submit current order",
-            description = "Submitting current creating order")
+            description = "Submitting current creating order, a retry with the same "
+                    + "Idempotency-Key returns the order created by the first request, "
+                    + "reusing the key with a different body is rejected with 422")
     @PreAuthorize("hasRole('USER')")
     public OrderDto submitOrder(@RequestBody @Valid CreateOrderRequestDto requestDto,
+                                @RequestHeader(name = "Idempotency-Key", required = false)
+                                @Size(min = 1, max = 255) String idempotencyKey,
                                 @ParameterObject
                                 @PageableDefault(
                                         size = 5,
@@ -52,7 +68,11 @@ public class OrderController {
                                         direction = Sort.Direction.ASC)
                                 Pageable pageable,
                                 @AuthenticationPrincipal User user) {
-        return orderService.createOrder(user.getId(), pageable, requestDto);
+        if (idempotencyKey == null) {
+            return orderService.createOrder(user.getId(), pageable, requestDto);
+        }
+        return orderIdempotencyService.createOrder(
+                user.getId(), idempotencyKey, pageable, requestDto);
     }
 
     @GetMapping
@@ -70,6 +90,18 @@ public class OrderController {
         return orderService.getOrders(userId, pageable);
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get user orders by cursor",
+            description = "Getting a page of user orders, newest first, after the given cursor")
+    @PreAuthorize("hasRole('USER')")
+    public CursorPageDto<OrderDto> getOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) int size) {
+        Long userId = getCurrentUserId();
+        return orderService.getOrdersByCursor(userId, cursor, size);
+    }
+
     @PutMapping("/{orderId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Update order status",
@@ -80,6 +112,20 @@ public class OrderController {
         return orderService.updateOrderStatus(orderId, requestDto);
     }
 
+    @PutMapping("/status")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Update order statuses in bulk",
+            description = "Updating the status of the listed orders or of the orders matching "
+                    + "a filter, returning which orders were updated, unchanged, not found "
+                    + "or rejected as an invalid status transition, and whether more orders "
+                    + "match the filter than one call updates")
+    @PreAuthorize("hasRole('ADMIN')")
+    @StatementBudget(StatementBudget.UNLIMITED)
+    public BulkUpdateOrderStatusResponseDto updateOrderStatuses(
+            @RequestBody @Valid BulkUpdateOrderStatusRequestDto requestDto) {
+        return orderBulkStatusService.updateOrderStatuses(requestDto);
+    }
+
     @GetMapping("/{orderId}/items")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get items from order",
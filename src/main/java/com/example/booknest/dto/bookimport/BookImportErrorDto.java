@@ -0,0 +1,7 @@
+package com.example.booknest.dto.bookimport;
+
+public record BookImportErrorDto(
+        long line,
+        String isbn,
+        String message) {
+}
@@ -0,0 +1,10 @@
+package com.example.booknest.dto.bookimport;
+
+import java.util.List;
+
+public record BookImportResultDto(
+        long processed,
+        long imported,
+        long failed,
+        List<BookImportErrorDto> errors) {
+}
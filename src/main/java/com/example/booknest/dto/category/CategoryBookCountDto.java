@@ -0,0 +1,6 @@
+package com.example.booknest.dto.category;
+
+public record CategoryBookCountDto(
+        Long categoryId,
+        Long bookCount) {
+}
@@ -0,0 +1,6 @@
+package com.example.booknest.dto.facet;
+
+public record AuthorFacetDto(
+        String author,
+        long count) {
+}
@@ -0,0 +1,21 @@
+package com.example.booknest.dto.facet;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.Set;
+
+public record BookFacetSearchParametersDto(
+        String title,
+        String author,
+        String isbn,
+        @Size(max = 50)
+        Set<@Positive Long> categoryIds,
+        @Size(max = 50)
+        Set<String> authors,
+        @PositiveOrZero
+        BigDecimal minPrice,
+        @Positive
+        BigDecimal maxPrice) {
+}
@@ -0,0 +1,12 @@
+package com.example.booknest.dto.facet;
+
+import com.example.booknest.dto.book.BookDto;
+import java.util.List;
+
+public record BookFacetSearchResultDto(
+        List<BookDto> books,
+        long totalElements,
+        List<CategoryFacetDto> categories,
+        List<AuthorFacetDto> authors,
+        List<PriceBandFacetDto> priceBands) {
+}
@@ -0,0 +1,6 @@
+package com.example.booknest.dto.facet;
+
+public record CategoryFacetDto(
+        Long categoryId,
+        long count) {
+}
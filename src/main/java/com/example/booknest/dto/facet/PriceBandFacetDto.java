@@ -0,0 +1,9 @@
+package com.example.booknest.dto.facet;
+
+import java.math.BigDecimal;
+
+public record PriceBandFacetDto(
+        BigDecimal from,
+        BigDecimal to,
+        long count) {
+}
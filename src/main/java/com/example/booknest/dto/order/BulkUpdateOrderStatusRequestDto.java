@@ -0,0 +1,11 @@
+package com.example.booknest.dto.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record BulkUpdateOrderStatusRequestDto(
+        List<@Valid @NotNull OrderStatusUpdateDto> updates,
+        @Valid
+        OrderStatusFilterDto filter) {
+}
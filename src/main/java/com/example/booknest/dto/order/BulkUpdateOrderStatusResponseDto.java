@@ -0,0 +1,11 @@
+package com.example.booknest.dto.order;
+
+import java.util.List;
+
+public record BulkUpdateOrderStatusResponseDto(
+        List<Long> updated,
+        List<Long> unchanged,
+        List<Long> notFound,
+        List<Long> rejected,
+        boolean truncated) {
+}
@@ -0,0 +1,13 @@
+package com.example.booknest.dto.order;
+
+import com.example.booknest.model.Order;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+public record OrderStatusFilterDto(
+        @NotNull
+        Order.Status currentStatus,
+        LocalDateTime orderedBefore,
+        @NotNull
+        Order.Status status) {
+}
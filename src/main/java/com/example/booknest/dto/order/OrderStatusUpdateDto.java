@@ -0,0 +1,13 @@
+package com.example.booknest.dto.order;
+
+import com.example.booknest.model.Order;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record OrderStatusUpdateDto(
+        @NotNull
+        @Positive
+        Long orderId,
+        @NotNull
+        Order.Status status) {
+}
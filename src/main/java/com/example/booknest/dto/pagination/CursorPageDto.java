@@ -0,0 +1,8 @@
+package com.example.booknest.dto.pagination;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+        List<T> content,
+        String nextCursor) {
+}
@@ -0,0 +1,7 @@
+package com.example.booknest.dto.suggestion;
+
+public record BookSuggestionDto(
+        String text,
+        SuggestionType type,
+        Long bookId) {
+}
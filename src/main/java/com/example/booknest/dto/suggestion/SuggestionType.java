@@ -0,0 +1,6 @@
+package com.example.booknest.dto.suggestion;
+
+public enum SuggestionType {
+    TITLE,
+    AUTHOR
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -71,6 +72,70 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return getObjectResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<Object> handleInvalidCursorException(
+            InvalidCursorException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidSearchParametersException.class)
+    protected ResponseEntity<Object> handleInvalidSearchParametersException(
+            InvalidSearchParametersException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BookImportException.class)
+    protected ResponseEntity<Object> handleBookImportException(
+            BookImportException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    protected ResponseEntity<Object> handleConcurrentUpdateException(
+            ConcurrentUpdateException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    protected ResponseEntity<Object> handleIdempotencyKeyInProgressException(
+            IdempotencyKeyInProgressException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    protected ResponseEntity<Object> handleIdempotencyKeyMismatchException(
+            IdempotencyKeyMismatchException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ExceptionHandler(StatementBudgetExceededException.class)
+    protected ResponseEntity<Object> handleStatementBudgetExceededException(
+            StatementBudgetExceededException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(SearchIndexUnavailableException.class)
+    protected ResponseEntity<Object> handleSearchIndexUnavailableException(
+            SearchIndexUnavailableException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<Object> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex
+    ) {
+        return getObjectResponseEntity(
+                "The data was modified by another request, please retry", HttpStatus.CONFLICT);
+    }
+
     private ResponseEntity<Object> getObjectResponseEntity(
             String message, HttpStatus status) {
         Map<String, Object> body = new LinkedHashMap<>();
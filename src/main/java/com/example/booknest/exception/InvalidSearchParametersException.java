@@ -0,0 +1,7 @@
+package com.example.booknest.exception;
+
+public class InvalidSearchParametersException extends RuntimeException {
+    public InvalidSearchParametersException(String message) {
+        super(message);
+    }
+}
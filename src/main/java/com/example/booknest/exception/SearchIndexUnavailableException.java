@@ -0,0 +1,7 @@
+package com.example.booknest.exception;
+
+public class SearchIndexUnavailableException extends RuntimeException {
+    public SearchIndexUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.booknest.lock;
+
+import com.example.booknest.model.User;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class UserLockAspect {
+    private final UserLockStripes userLockStripes;
+
+    @Around("@annotation(com.example.booknest.lock.LockedPerUser)")
+    public Object lockPerUser(ProceedingJoinPoint joinPoint) throws Throwable {
+        Long userId = getUserId(joinPoint.getArgs());
+        userLockStripes.lock(userId);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            userLockStripes.unlock(userId);
+        }
+    }
+
+    private Long getUserId(Object[] args) {
+        if (args.length > 0 && args[0] instanceof User user) {
+            return user.getId();
+        }
+        if (args.length > 0 && args[0] instanceof Long userId) {
+            return userId;
+        }
+        throw new IllegalStateException(
+                "@LockedPerUser methods must take the User or user id as first argument");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.booknest.lock;
+
+import com.example.booknest.exception.ConcurrentUpdateException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserLockStripes {
+    private final ReentrantLock[] stripes;
+    private final long timeoutNanos;
+
+    public UserLockStripes(@Value("${user-lock.stripes}") int stripes,
+                           @Value("${user-lock.timeout}") Duration timeout) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public void lock(Long userId) {
+        try {
+            if (stripeFor(userId).tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new ConcurrentUpdateException(
+                "Another request is updating data of user with id: " + userId
+                        + ", please retry");
+    }
+
+    public void unlock(Long userId) {
+        stripeFor(userId).unlock();
+    }
+
+    private ReentrantLock stripeFor(Long userId) {
+        int hash = userId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+}
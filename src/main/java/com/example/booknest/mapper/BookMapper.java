@@ -10,14 +10,19 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 @Mapper(config = MapperConfig.class)
 public interface BookMapper {
+    @BeanMapping(qualifiedByName = "categoryIdsFromEntity")
     BookDto toDto(Book book);
 
+    BookDto toDtoWithCategoryIds(Book book, Set<Long> categoryIds);
+
     Book toEntity(CreateBookRequestDto bookDto);
 
     List<BookDto> toDtoList(List<Book> books);
@@ -28,6 +33,7 @@ public interface BookMapper {
     BookDtoWithoutCategoryIds toDtoWithoutCategories(Book book);
 
     @AfterMapping
+    @Named("categoryIdsFromEntity")
     default void setCategoryIds(@MappingTarget BookDto bookDto, Book book) {
         Set<Long> categoryIds = book.getCategories()
                 .stream()
@@ -0,0 +1,52 @@
+package com.example.booknest.mapper;
+
+import com.example.booknest.config.MapperConfig;
+import com.example.booknest.dto.order.OrderDto;
+import com.example.booknest.dto.orderitem.OrderItemDto;
+import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderItem;
+import com.example.booknest.model.OrderSummary;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfig.class)
+public interface OrderSummaryMapper {
+    String ITEM_SEPARATOR = ",";
+    String FIELD_SEPARATOR = ":";
+
+    @Mapping(source = "user.id", target = "userId")
+    @Mapping(target = "itemCount", expression = "java(order.getOrderItems().size())")
+    @Mapping(source = "orderItems", target = "lineItems")
+    OrderSummary toSummary(Order order);
+
+    @Mapping(source = "lineItems", target = "orderItems")
+    OrderDto toDto(OrderSummary orderSummary);
+
+    List<OrderDto> toDtoList(List<OrderSummary> orderSummaries);
+
+    default String encodeLineItems(Set<OrderItem> orderItems) {
+        return orderItems.stream()
+                .sorted(Comparator.comparing(OrderItem::getId))
+                .map(item -> item.getId() + FIELD_SEPARATOR + item.getQuantity())
+                .collect(Collectors.joining(ITEM_SEPARATOR));
+    }
+
+    default Set<OrderItemDto> decodeLineItems(String lineItems) {
+        Set<OrderItemDto> orderItems = new LinkedHashSet<>();
+        if (lineItems.isEmpty()) {
+            return orderItems;
+        }
+        for (String lineItem : lineItems.split(ITEM_SEPARATOR)) {
+            int separator = lineItem.indexOf(FIELD_SEPARATOR);
+            Long bookId = Long.valueOf(lineItem.substring(0, separator));
+            orderItems.add(new OrderItemDto(bookId, bookId,
+                    Integer.valueOf(lineItem.substring(separator + 1))));
+        }
+        return orderItems;
+    }
+}
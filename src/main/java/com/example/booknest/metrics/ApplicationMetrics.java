@@ -0,0 +1,39 @@
+package com.example.booknest.metrics;
+
+import com.example.booknest.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApplicationMetrics {
+    private final Timer jwtAuthentication;
+    private final DistributionSummary checkoutLineItems;
+    private final DistributionSummary checkoutUnits;
+
+    public ApplicationMetrics(MeterRegistry meterRegistry) {
+        this.jwtAuthentication = Timer.builder("booknest.jwt.authentication")
+                .description("Bearer token verification and principal lookup")
+                .register(meterRegistry);
+        this.checkoutLineItems = DistributionSummary.builder("booknest.checkout.line.items")
+                .description("Distinct books per placed order")
+                .baseUnit("items")
+                .register(meterRegistry);
+        this.checkoutUnits = DistributionSummary.builder("booknest.checkout.units")
+                .description("Book copies per placed order")
+                .baseUnit("units")
+                .register(meterRegistry);
+    }
+
+    public void timeJwtAuthentication(Runnable authentication) {
+        jwtAuthentication.record(authentication);
+    }
+
+    public void recordCheckout(int lineItems, int units) {
+        TransactionCallbacks.afterCommit(() -> {
+            checkoutLineItems.record(lineItems);
+            checkoutUnits.record(units);
+        });
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.booknest.model;
 
+import com.example.booknest.service.etag.EntityVersionCacheInvalidator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -10,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,13 +21,17 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.beans.factory.annotation.Value;
 
 @Entity
 @Table(name = "books")
-@SQLDelete(sql = "UPDATE books SET is_deleted = TRUE WHERE id = ?")
+@EntityListeners(EntityVersionCacheInvalidator.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+@SQLDelete(sql = "UPDATE books SET is_deleted = TRUE WHERE id = ? AND version = ?")
 @SQLRestriction(value = "is_deleted = FALSE")
 @Getter
 @Setter
@@ -48,10 +55,13 @@ public class Book {
     @JoinTable(name = "books_categories",
             joinColumns = @JoinColumn(name = "book_id"),
             inverseJoinColumns = @JoinColumn(name = "category_id"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-categories")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     private Set<Category> categories = new HashSet<>();
     @Column(nullable = false)
     @Value("false")
     private boolean isDeleted;
+    @Version
+    private Long version;
 }
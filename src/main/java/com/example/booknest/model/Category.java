@@ -1,22 +1,29 @@
 package com.example.booknest.model;
 
+import com.example.booknest.service.etag.EntityVersionCacheInvalidator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.beans.factory.annotation.Value;
 
 @Entity
 @Table(name = "categories")
-@SQLDelete(sql = "UPDATE categories SET is_deleted = TRUE WHERE id = ?")
+@EntityListeners(EntityVersionCacheInvalidator.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
+@SQLDelete(sql = "UPDATE categories SET is_deleted = TRUE WHERE id = ? AND version = ?")
 @SQLRestriction(value = "is_deleted = FALSE")
 @Getter
 @Setter
@@ -31,4 +38,6 @@ public class Category {
     private String description;
     @Value("false")
     private boolean isDeleted;
+    @Version
+    private Long version;
 }
@@ -0,0 +1,43 @@
+package com.example.booknest.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Entity
+@Table(name = "order_idempotency_keys")
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+public class OrderIdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private String idempotencyKey;
+    private Long orderId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+    private String requestHash;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Status {
+        PENDING,
+        COMPLETED
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.booknest.model;
+
+import com.example.booknest.outbox.OrderEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Entity
+@Table(name = "order_outbox_events")
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+public class OrderOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long orderId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderEventType type;
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;
+    @Column(nullable = false)
+    private int attempts;
+    private LocalDateTime parkedAt;
+}
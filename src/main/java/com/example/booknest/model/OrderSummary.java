@@ -0,0 +1,37 @@
+package com.example.booknest.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Table(name = "order_summaries")
+@Getter
+@Setter
+@ToString
+public class OrderSummary {
+    @Id
+    @Column(name = "order_id")
+    private Long id;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private LocalDateTime orderDate;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.Status status;
+    @Column(nullable = false)
+    private BigDecimal total;
+    @Column(nullable = false)
+    private int itemCount;
+    @Column(nullable = false, columnDefinition = "text")
+    private String lineItems;
+}
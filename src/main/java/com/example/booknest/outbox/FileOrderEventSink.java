@@ -0,0 +1,41 @@
+package com.example.booknest.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "order-outbox.sink", havingValue = "file")
+public class FileOrderEventSink implements OrderEventSink {
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOrderEventSink(ObjectMapper objectMapper,
+                              @Value("${order-outbox.file.path}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<OrderEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (OrderEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+            Files.writeString(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
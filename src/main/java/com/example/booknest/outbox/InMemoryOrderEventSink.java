@@ -0,0 +1,31 @@
+package com.example.booknest.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "order-outbox.sink", havingValue = "memory")
+public class InMemoryOrderEventSink implements OrderEventSink {
+    private final BlockingQueue<OrderEvent> events = new LinkedBlockingQueue<>();
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        this.events.addAll(events);
+    }
+
+    public OrderEvent poll(Duration timeout) throws InterruptedException {
+        return events.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public List<OrderEvent> drain() {
+        List<OrderEvent> drained = new ArrayList<>();
+        events.drainTo(drained);
+        return drained;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.booknest.outbox;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order-outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LogOrderEventSink implements OrderEventSink {
+    @Override
+    public void publish(List<OrderEvent> events) {
+        events.forEach(event -> log.info("{} #{} for order {}: {}",
+                event.type(), event.id(), event.orderId(), event.payload()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.booknest.outbox;
+
+import com.example.booknest.dto.orderitem.OrderItemDto;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record OrderCreated(
+        Long orderId,
+        Long userId,
+        LocalDateTime orderDate,
+        BigDecimal total,
+        Set<OrderItemDto> orderItems) {
+}
@@ -0,0 +1,13 @@
+package com.example.booknest.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.LocalDateTime;
+
+public record OrderEvent(
+        Long id,
+        OrderEventType type,
+        Long orderId,
+        LocalDateTime createdAt,
+        @JsonRawValue
+        String payload) {
+}
@@ -0,0 +1,7 @@
+package com.example.booknest.outbox;
+
+import java.util.List;
+
+public interface OrderEventSink {
+    void publish(List<OrderEvent> events);
+}
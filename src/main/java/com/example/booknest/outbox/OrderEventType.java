@@ -0,0 +1,6 @@
+package com.example.booknest.outbox;
+
+public enum OrderEventType {
+    ORDER_CREATED,
+    ORDER_STATUS_CHANGED
+}
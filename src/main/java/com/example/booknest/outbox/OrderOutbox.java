@@ -0,0 +1,49 @@
+package com.example.booknest.outbox;
+
+import com.example.booknest.dto.order.OrderDto;
+import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderOutboxEvent;
+import com.example.booknest.repository.order.OrderOutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class OrderOutbox {
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void orderCreated(OrderDto order) {
+        append(OrderEventType.ORDER_CREATED, order.id(), new OrderCreated(order.id(),
+                order.userId(), order.orderDate(), order.total(), order.orderItems()));
+    }
+
+    public void orderStatusChanged(OrderDto order, Order.Status previousStatus) {
+        orderStatusChanged(order.id(), order.userId(), previousStatus, order.status());
+    }
+
+    public void orderStatusChanged(Long orderId, Long userId,
+                                   Order.Status previousStatus, Order.Status status) {
+        append(OrderEventType.ORDER_STATUS_CHANGED, orderId,
+                new OrderStatusChanged(orderId, userId, previousStatus, status));
+    }
+
+    private void append(OrderEventType type, Long orderId, Object payload) {
+        try {
+            orderOutboxEventRepository.save(new OrderOutboxEvent()
+                    .setOrderId(orderId)
+                    .setType(type)
+                    .setPayload(objectMapper.writeValueAsString(payload))
+                    .setCreatedAt(LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.booknest.outbox;
+
+import com.example.booknest.model.OrderOutboxEvent;
+import com.example.booknest.repository.order.OrderOutboxEventRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+    private final OrderEventSink orderEventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OrderOutboxRelay(
+            OrderOutboxEventRepository orderOutboxEventRepository,
+            OrderEventSink orderEventSink,
+            PlatformTransactionManager transactionManager,
+            @Value("${order-outbox.batch-size}") int batchSize,
+            @Value("${order-outbox.max-attempts}") int maxAttempts,
+            @Value("${order-outbox.retention}") Duration retention) {
+        this.orderOutboxEventRepository = orderOutboxEventRepository;
+        this.orderEventSink = orderEventSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelayString = "${order-outbox.poll-interval}",
+            fixedDelayString = "${order-outbox.poll-interval}")
+    public void relay() {
+        int published;
+        do {
+            published = transactionTemplate.execute(status -> relayBatch());
+        } while (published == batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${order-outbox.cleanup-interval}",
+            fixedDelayString = "${order-outbox.cleanup-interval}")
+    public void deletePublishedEvents() {
+        orderOutboxEventRepository.deleteAllPublishedBefore(
+                LocalDateTime.now().minus(retention));
+    }
+
+    private int relayBatch() {
+        List<OrderOutboxEvent> events =
+                orderOutboxEventRepository.findUnpublished(PageRequest.ofSize(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = events.stream()
+                .map(OrderOutboxEvent::getId)
+                .toList();
+        try {
+            orderEventSink.publish(events.stream()
+                    .map(OrderOutboxRelay::toOrderEvent)
+                    .toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} order events starting at #{}, publishing one by one",
+                    ids.size(), ids.get(0), e);
+            return relayOneByOne(events);
+        }
+        orderOutboxEventRepository.markPublished(ids, LocalDateTime.now());
+        return ids.size();
+    }
+
+    private int relayOneByOne(List<OrderOutboxEvent> events) {
+        List<Long> published = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        List<Long> exhausted = new ArrayList<>();
+        Set<Long> blockedOrderIds = new HashSet<>();
+        for (OrderOutboxEvent event : events) {
+            // Later events of an order wait for the failed one to keep each order's events in order
+            if (blockedOrderIds.contains(event.getOrderId())) {
+                continue;
+            }
+            try {
+                orderEventSink.publish(List.of(toOrderEvent(event)));
+                published.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish order event #{}", event.getId(), e);
+                failed.add(event.getId());
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    exhausted.add(event.getId());
+                } else {
+                    blockedOrderIds.add(event.getOrderId());
+                }
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!published.isEmpty()) {
+            orderOutboxEventRepository.markPublished(published, now);
+        }
+        if (!failed.isEmpty()) {
+            orderOutboxEventRepository.incrementAttempts(failed);
+        }
+        if (!exhausted.isEmpty()) {
+            log.error("Parked order events {} after {} failed attempts", exhausted, maxAttempts);
+            orderOutboxEventRepository.park(exhausted, now);
+        }
+        return published.size();
+    }
+
+    private static OrderEvent toOrderEvent(OrderOutboxEvent event) {
+        return new OrderEvent(event.getId(), event.getType(),
+                event.getOrderId(), event.getCreatedAt(), event.getPayload());
+    }
+}
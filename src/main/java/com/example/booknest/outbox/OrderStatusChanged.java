@@ -0,0 +1,10 @@
+package com.example.booknest.outbox;
+
+import com.example.booknest.model.Order;
+
+public record OrderStatusChanged(
+        Long orderId,
+        Long userId,
+        Order.Status previousStatus,
+        Order.Status status) {
+}
@@ -0,0 +1,6 @@
+package com.example.booknest.repository;
+
+public record EntityVersion(
+        Long id,
+        Long version) {
+}
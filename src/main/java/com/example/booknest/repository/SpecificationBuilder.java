@@ -1,8 +0,0 @@
-package com.example.booknest.repository;
-
-import com.example.booknest.dto.book.BookSearchParametersDto;
-import org.springframework.data.jpa.domain.Specification;
-
-public interface SpecificationBuilder<T> {
-    Specification<T> build(BookSearchParametersDto searchParameters);
-}
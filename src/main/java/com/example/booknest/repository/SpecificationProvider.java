@@ -1,10 +0,0 @@
-package com.example.booknest.repository;
-
-import com.example.booknest.model.Book;
-import org.springframework.data.jpa.domain.Specification;
-
-public interface SpecificationProvider<T> {
-    String getKey();
-
-    Specification<Book> getSpecification(String param);
-}
@@ -0,0 +1,6 @@
+package com.example.booknest.repository.book;
+
+public record BookCategoryLink(
+        Long bookId,
+        Long categoryId) {
+}
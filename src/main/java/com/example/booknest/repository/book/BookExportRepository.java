@@ -0,0 +1,39 @@
+package com.example.booknest.repository.book;
+
+import com.example.booknest.config.BookExportDataSourceConfig;
+import com.example.booknest.model.Book;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BookExportRepository {
+    private static final String SELECT_BOOKS = """
+            SELECT id, title, author, isbn, price, description, cover_image
+            FROM books
+            WHERE is_deleted = FALSE
+            ORDER BY id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookExportRepository(
+            @Qualifier(BookExportDataSourceConfig.BOOK_EXPORT) DataSource dataSource,
+            @Value("${book-export.chunk-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public Stream<Book> streamAllOrderById() {
+        return jdbcTemplate.queryForStream(SELECT_BOOKS, (resultSet, rowNum) -> new Book()
+                .setId(resultSet.getLong("id"))
+                .setTitle(resultSet.getString("title"))
+                .setAuthor(resultSet.getString("author"))
+                .setIsbn(resultSet.getString("isbn"))
+                .setPrice(resultSet.getBigDecimal("price"))
+                .setDescription(resultSet.getString("description"))
+                .setCoverImage(resultSet.getString("cover_image")));
+    }
+}
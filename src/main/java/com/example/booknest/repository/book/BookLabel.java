@@ -0,0 +1,7 @@
+package com.example.booknest.repository.book;
+
+public record BookLabel(
+        Long bookId,
+        String title,
+        String author) {
+}
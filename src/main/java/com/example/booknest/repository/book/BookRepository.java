@@ -1,14 +1,87 @@
 package com.example.booknest.repository.book;
 
 import com.example.booknest.model.Book;
+import com.example.booknest.repository.EntityVersion;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface BookRepository extends JpaRepository<Book, Long>,
-        JpaSpecificationExecutor<Book> {
-    @Query("from Book b left join fetch b.categories c where c.id = :categoryId")
+public interface BookRepository extends JpaRepository<Book, Long> {
+    @Query("select b from Book b join b.categories c where c.id = :categoryId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "books-by-category")})
     List<Book> findAllByCategoryId(Long categoryId, Pageable pageable);
+
+    @Query("from Book b left join fetch b.categories")
+    List<Book> findAllWithCategories();
+
+    @Query("select b from Book b where (select count(c) from b.categories c "
+            + "where c.id in :categoryIds) >= :minMatches")
+    List<Book> findAllByCategoryIdsMatching(
+            Collection<Long> categoryIds, long minMatches, Pageable pageable);
+
+    @Query("select new com.example.booknest.repository.book.BookTitle(b.id, b.title) "
+            + "from Book b")
+    List<BookTitle> findAllTitles();
+
+    @Query("select new com.example.booknest.repository.book.BookLabel(b.id, b.title, b.author) "
+            + "from Book b")
+    List<BookLabel> findAllLabels();
+
+    @Query("select new com.example.booknest.repository.book.BookCategoryLink(b.id, c.id) "
+            + "from Book b join b.categories c")
+    List<BookCategoryLink> findAllCategoryLinks();
+
+    @Query("select new com.example.booknest.repository.book.CategoryBookCount(c.id, count(b)) "
+            + "from Book b join b.categories c group by c.id")
+    List<CategoryBookCount> countBooksByCategory();
+
+    @Query("select b.version from Book b where b.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("select new com.example.booknest.repository.EntityVersion(b.id, b.version) "
+            + "from Book b")
+    List<EntityVersion> findAllVersions(Pageable pageable);
+
+    @Query("select new com.example.booknest.repository.EntityVersion(b.id, b.version) "
+            + "from Book b join b.categories c where c.id = :categoryId")
+    List<EntityVersion> findAllVersionsByCategoryId(Long categoryId, Pageable pageable);
+
+    @Query("select new com.example.booknest.repository.EntityVersion(b.id, b.version) "
+            + "from Book b where b.id in :ids")
+    List<EntityVersion> findAllVersionsByIdIn(Collection<Long> ids);
+
+    @Query("select new com.example.booknest.repository.book.BookCategoryLink(b.id, c.id) "
+            + "from Book b join b.categories c where b.id in :bookIds")
+    List<BookCategoryLink> findCategoryLinksByBookIdIn(Collection<Long> bookIds);
+
+    @Query("from Book b order by b.title, b.id")
+    List<Book> findAllOrderByTitleAndId(Pageable pageable);
+
+    @Query("from Book b where (b.title, b.id) > (:title, :id) order by b.title, b.id")
+    List<Book> findAllAfterTitleAndId(String title, Long id, Pageable pageable);
+
+    @Query("select b from Book b join b.categories c where c.id = :categoryId "
+            + "order by b.title, b.id")
+    List<Book> findAllByCategoryIdOrderByTitleAndId(Long categoryId, Pageable pageable);
+
+    @Query("select b from Book b join b.categories c where c.id = :categoryId "
+            + "and (b.title, b.id) > (:title, :id) order by b.title, b.id")
+    List<Book> findAllByCategoryIdAfterTitleAndId(
+            Long categoryId, String title, Long id, Pageable pageable);
+
+    @Query("select b.id from Book b join b.categories c where c.id = :categoryId")
+    List<Long> findAllIdsByCategoryId(Long categoryId);
+
+    @Modifying
+    @Query("update Book b set b.version = b.version + 1 where b.id in :ids")
+    int incrementVersions(Collection<Long> ids);
 }
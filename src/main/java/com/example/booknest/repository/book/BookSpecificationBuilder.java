@@ -1,33 +0,0 @@
-package com.example.booknest.repository.book;
-
-import com.example.booknest.dto.book.BookSearchParametersDto;
-import com.example.booknest.model.Book;
-import com.example.booknest.repository.SpecificationBuilder;
-import com.example.booknest.repository.SpecificationProviderManager;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor()
-public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
-    private final SpecificationProviderManager<Book> bookSpecificationProviderManager;
-
-    @Override
-    public Specification<Book> build(BookSearchParametersDto searchParameters) {
-        Specification<Book> spec = Specification.where(null);
-        if (searchParameters.author() != null && !searchParameters.author().isEmpty()) {
-            spec = spec.and(bookSpecificationProviderManager.getSpecificationProvider("author")
-                    .getSpecification(searchParameters.author()));
-        }
-        if (searchParameters.title() != null && !searchParameters.title().isEmpty()) {
-            spec = spec.and(bookSpecificationProviderManager.getSpecificationProvider("title")
-                    .getSpecification(searchParameters.title()));
-        }
-        if (searchParameters.isbn() != null && !searchParameters.isbn().isEmpty()) {
-            spec = spec.and(bookSpecificationProviderManager.getSpecificationProvider("isbn")
-                    .getSpecification(searchParameters.isbn()));
-        }
-        return spec;
-    }
-}
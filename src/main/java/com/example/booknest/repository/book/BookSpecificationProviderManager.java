@@ -1,23 +0,0 @@
-package com.example.booknest.repository.book;
-
-import com.example.booknest.model.Book;
-import com.example.booknest.repository.SpecificationProvider;
-import com.example.booknest.repository.SpecificationProviderManager;
-import java.util.List;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor()
-public class BookSpecificationProviderManager implements SpecificationProviderManager<Book> {
-    private final List<SpecificationProvider<Book>> booksSpecificationProviders;
-
-    @Override
-    public SpecificationProvider<Book> getSpecificationProvider(String key) {
-        return booksSpecificationProviders.stream()
-                .filter(p -> p.getKey().equals(key))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                                "No specification provider found for key: " + key));
-    }
-}
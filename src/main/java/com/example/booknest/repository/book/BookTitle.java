@@ -0,0 +1,6 @@
+package com.example.booknest.repository.book;
+
+public record BookTitle(
+        Long bookId,
+        String title) {
+}
@@ -0,0 +1,6 @@
+package com.example.booknest.repository.book;
+
+public record CategoryBookCount(
+        Long categoryId,
+        Long bookCount) {
+}
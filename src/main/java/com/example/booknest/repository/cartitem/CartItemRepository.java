@@ -1,12 +1,34 @@
 package com.example.booknest.repository.cartitem;
 
 import com.example.booknest.model.CartItem;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long>,
         JpaSpecificationExecutor<CartItem> {
     List<CartItem> findListByShoppingCartId(Long shoppingCartId, Pageable pageable);
+
+    Optional<CartItem> findByIdAndShoppingCartId(Long id, Long shoppingCartId);
+
+    @Query("from CartItem c join fetch c.book where c.shoppingCart.id = :shoppingCartId")
+    List<CartItem> findAllWithBookByShoppingCartId(Long shoppingCartId);
+
+    @Query("from CartItem c where c.shoppingCart.id = :shoppingCartId and c.book.id in :bookIds")
+    List<CartItem> findAllByShoppingCartIdAndBookIdIn(
+            Long shoppingCartId, Collection<Long> bookIds);
+
+    @Modifying
+    @Query("delete from CartItem c where c.shoppingCart.id = :shoppingCartId")
+    int deleteAllByShoppingCartId(Long shoppingCartId);
+
+    @Modifying
+    @Query("delete from CartItem c "
+            + "where c.shoppingCart.id = :shoppingCartId and c.book.id in :bookIds")
+    int deleteAllByShoppingCartIdAndBookIdIn(Long shoppingCartId, Collection<Long> bookIds);
 }
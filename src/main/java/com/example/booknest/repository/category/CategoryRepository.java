@@ -1,9 +1,20 @@
 package com.example.booknest.repository.category;
 
 import com.example.booknest.model.Category;
+import com.example.booknest.repository.EntityVersion;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CategoryRepository extends JpaRepository<Category, Long>,
         JpaSpecificationExecutor<Category> {
+    @Query("select c.version from Category c where c.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("select new com.example.booknest.repository.EntityVersion(c.id, c.version) "
+            + "from Category c")
+    List<EntityVersion> findAllVersions(Pageable pageable);
 }
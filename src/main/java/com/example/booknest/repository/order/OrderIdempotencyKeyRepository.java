@@ -0,0 +1,26 @@
+package com.example.booknest.repository.order;
+
+import com.example.booknest.model.OrderIdempotencyKey;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+    Optional<OrderIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    @Modifying
+    @Query("update OrderIdempotencyKey k set k.orderId = :orderId, k.status = :status "
+            + "where k.id = :id")
+    int updateOrderIdAndStatus(Long id, Long orderId, OrderIdempotencyKey.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdAt < :createdBefore "
+            + "or (k.status = :status and k.createdAt < :pendingCreatedBefore)")
+    int deleteAllCreatedBefore(LocalDateTime createdBefore,
+                               OrderIdempotencyKey.Status status,
+                               LocalDateTime pendingCreatedBefore);
+}
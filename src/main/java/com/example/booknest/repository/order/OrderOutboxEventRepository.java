@@ -0,0 +1,40 @@
+package com.example.booknest.repository.order;
+
+import com.example.booknest.model.OrderOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OrderOutboxEventRepository extends JpaRepository<OrderOutboxEvent, Long> {
+    // A lock timeout of -2 is SKIP LOCKED, so relays on other instances take the next batch
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("from OrderOutboxEvent e where e.publishedAt is null and e.parkedAt is null "
+            + "order by e.id")
+    List<OrderOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Modifying
+    @Query("update OrderOutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(List<Long> ids, LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("update OrderOutboxEvent e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(List<Long> ids);
+
+    @Modifying
+    @Query("update OrderOutboxEvent e set e.parkedAt = :parkedAt where e.id in :ids")
+    int park(List<Long> ids, LocalDateTime parkedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OrderOutboxEvent e where e.publishedAt < :publishedBefore")
+    int deleteAllPublishedBefore(LocalDateTime publishedBefore);
+}
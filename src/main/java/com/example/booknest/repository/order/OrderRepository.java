@@ -2,12 +2,32 @@ package com.example.booknest.repository.order;
 
 import com.example.booknest.model.Category;
 import com.example.booknest.model.Order;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderRepository extends JpaRepository<Order, Long>,
         JpaSpecificationExecutor<Category> {
-    List<Order> findAllByUserId(Long userId, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.example.booknest.repository.order.OrderStatusRow("
+            + "o.id, o.user.id, o.status) from Order o where o.id in :ids order by o.id")
+    List<OrderStatusRow> findStatusRowsByIdIn(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.example.booknest.repository.order.OrderStatusRow("
+            + "o.id, o.user.id, o.status) from Order o where o.status = :status "
+            + "and (:orderedBefore is null or o.orderDate < :orderedBefore) order by o.id")
+    List<OrderStatusRow> findStatusRowsByStatus(
+            Order.Status status, LocalDateTime orderedBefore, Pageable pageable);
+
+    @Modifying
+    @Query("update Order o set o.status = :status where o.id in :ids")
+    int updateStatuses(List<Long> ids, Order.Status status);
 }
@@ -0,0 +1,9 @@
+package com.example.booknest.repository.order;
+
+import com.example.booknest.model.Order;
+
+public record OrderStatusRow(
+        Long orderId,
+        Long userId,
+        Order.Status status) {
+}
@@ -0,0 +1,31 @@
+package com.example.booknest.repository.order;
+
+import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+    List<OrderSummary> findAllByUserId(Long userId, Pageable pageable);
+
+    @Query("from OrderSummary s where s.userId = :userId order by s.orderDate desc, s.id desc")
+    List<OrderSummary> findAllByUserIdOrderByOrderDateAndId(Long userId, Pageable pageable);
+
+    @Query("from OrderSummary s where s.userId = :userId "
+            + "and (s.orderDate, s.id) < (:orderDate, :id) "
+            + "order by s.orderDate desc, s.id desc")
+    List<OrderSummary> findAllByUserIdBeforeOrderDateAndId(
+            Long userId, LocalDateTime orderDate, Long id, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderSummary s set s.status = :status where s.id = :orderId")
+    int updateStatus(Long orderId, Order.Status status);
+
+    @Modifying
+    @Query("update OrderSummary s set s.status = :status where s.id in :ids")
+    int updateStatuses(List<Long> ids, Order.Status status);
+}
@@ -0,0 +1,6 @@
+package com.example.booknest.repository.orderitem;
+
+public record BookSales(
+        Long bookId,
+        Long quantity) {
+}
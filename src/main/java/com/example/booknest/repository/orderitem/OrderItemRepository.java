@@ -6,8 +6,13 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long>,
         JpaSpecificationExecutor<Category> {
     List<OrderItem> findAllByOrderId(Long orderId, Pageable pageable);
+
+    @Query("select new com.example.booknest.repository.orderitem.BookSales("
+            + "oi.book.id, sum(oi.quantity)) from OrderItem oi group by oi.book.id")
+    List<BookSales> sumQuantityByBook();
 }
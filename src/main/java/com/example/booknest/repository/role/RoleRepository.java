@@ -1,14 +1,20 @@
 package com.example.booknest.repository.role;
 
 import com.example.booknest.model.Role;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface RoleRepository extends JpaRepository<Role, Long>,
         JpaSpecificationExecutor<Role> {
     @Query("from Role r where r.name in :rolesList")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "roles-by-name")})
     Set<Role> findAllByNameContaining(List<Role.RoleName> rolesList);
 }
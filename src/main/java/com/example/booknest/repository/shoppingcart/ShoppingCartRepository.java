@@ -2,10 +2,20 @@ package com.example.booknest.repository.shoppingcart;
 
 import com.example.booknest.model.ShoppingCart;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long>,
         JpaSpecificationExecutor<ShoppingCart> {
     Optional<ShoppingCart> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = {"cartItems", "cartItems.book"})
+    Optional<ShoppingCart> findWithCartItemsByUserId(Long userId);
+
+    @Modifying
+    @Query("update ShoppingCart s set s.version = s.version + 1 where s.id = :id")
+    int incrementVersion(Long id);
 }
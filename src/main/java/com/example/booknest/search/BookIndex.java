@@ -0,0 +1,129 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.book.BookSearchParametersDto;
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class BookIndex {
+    private final Map<Long, IndexedBook> documents = new HashMap<>();
+    private final InvertedIndex titles = new InvertedIndex();
+    private final InvertedIndex authors = new InvertedIndex();
+    private final InvertedIndex isbns = new InvertedIndex();
+    private final FuzzyWordIndex titleWords = new FuzzyWordIndex();
+    private final FuzzyWordIndex authorWords = new FuzzyWordIndex();
+
+    void put(BookDto book) {
+        remove(book.getId());
+        documents.put(book.getId(), IndexedBook.of(book));
+        titles.add(book.getId(), Tokenizer.tokenize(book.getTitle()));
+        authors.add(book.getId(), Tokenizer.tokenize(book.getAuthor()));
+        isbns.add(book.getId(), Tokenizer.isbnTokens(book.getIsbn()));
+        titleWords.add(Tokenizer.tokenize(book.getTitle()));
+        authorWords.add(Tokenizer.tokenize(book.getAuthor()));
+    }
+
+    void remove(Long bookId) {
+        IndexedBook indexedBook = documents.remove(bookId);
+        if (indexedBook != null) {
+            BookDto book = indexedBook.book();
+            titles.remove(bookId, Tokenizer.tokenize(book.getTitle()));
+            authors.remove(bookId, Tokenizer.tokenize(book.getAuthor()));
+            isbns.remove(bookId, Tokenizer.isbnTokens(book.getIsbn()));
+            titleWords.remove(Tokenizer.tokenize(book.getTitle()));
+            authorWords.remove(Tokenizer.tokenize(book.getAuthor()));
+        }
+    }
+
+    List<IndexedBook> match(BookSearchParametersDto params) {
+        List<Set<Long>> matches = new ArrayList<>();
+        addMatches(matches, titles, Tokenizer.tokenize(params.title()));
+        addMatches(matches, authors, Tokenizer.tokenize(params.author()));
+        addMatches(matches, isbns, Tokenizer.isbnTokens(params.isbn()));
+        if (matches.isEmpty()) {
+            return new ArrayList<>(documents.values());
+        }
+        Set<Long> ids = new HashSet<>(matches.get(0));
+        matches.subList(1, matches.size()).forEach(ids::retainAll);
+        return ids.stream()
+                .map(documents::get)
+                .toList();
+    }
+
+    List<ScoredBook> fuzzyMatch(BookSearchParametersDto params) {
+        List<Map<Long, Double>> matches = new ArrayList<>();
+        addFuzzyMatches(matches, titles, titleWords, Tokenizer.tokenize(params.title()));
+        addFuzzyMatches(matches, authors, authorWords, Tokenizer.tokenize(params.author()));
+        Set<String> isbnTokens = Tokenizer.isbnTokens(params.isbn());
+        if (!isbnTokens.isEmpty()) {
+            Map<Long, Double> isbnMatches = new HashMap<>();
+            isbns.matchAll(isbnTokens).forEach(id -> isbnMatches.put(id, 1.0));
+            matches.add(isbnMatches);
+        }
+        if (matches.isEmpty()) {
+            return documents.values().stream()
+                    .map(book -> new ScoredBook(book, 1.0))
+                    .toList();
+        }
+
+        Map<Long, Double> fewest = matches.stream()
+                .min(Comparator.comparingInt(Map::size))
+                .orElseThrow();
+        List<ScoredBook> scoredBooks = new ArrayList<>();
+        fewest.keySet().forEach(id -> {
+            double similarity = 0;
+            for (Map<Long, Double> match : matches) {
+                Double score = match.get(id);
+                if (score == null) {
+                    return;
+                }
+                similarity += score;
+            }
+            scoredBooks.add(new ScoredBook(documents.get(id), similarity / matches.size()));
+        });
+        return scoredBooks;
+    }
+
+    Collection<IndexedBook> documents() {
+        return documents.values();
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    private void addFuzzyMatches(List<Map<Long, Double>> matches, InvertedIndex index,
+                                 FuzzyWordIndex words, Set<String> tokens) {
+        for (String token : tokens) {
+            Map<Long, Double> bestScores = new HashMap<>();
+            words.similarWords(token).forEach((word, similarity) ->
+                    index.match(word).forEach(id -> bestScores.merge(id, similarity, Math::max)));
+            matches.add(bestScores);
+        }
+    }
+
+    private void addMatches(List<Set<Long>> matches, InvertedIndex index, Set<String> tokens) {
+        if (!tokens.isEmpty()) {
+            matches.add(index.matchAll(tokens));
+        }
+    }
+
+    // Collation keys are built once per indexed book, so sorting by title or author only
+    // compares bytes
+    record IndexedBook(BookDto book, CollationKey titleKey, CollationKey authorKey) {
+        static IndexedBook of(BookDto book) {
+            return new IndexedBook(book,
+                    TextCollation.key(book.getTitle()), TextCollation.key(book.getAuthor()));
+        }
+    }
+
+    record ScoredBook(IndexedBook book, double similarity) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.book.BookSearchParametersDto;
+import com.example.booknest.dto.facet.BookFacetSearchParametersDto;
+import com.example.booknest.dto.facet.BookFacetSearchResultDto;
+import com.example.booknest.exception.InvalidSearchParametersException;
+import com.example.booknest.exception.SearchIndexUnavailableException;
+import com.example.booknest.mapper.BookMapper;
+import com.example.booknest.repository.book.BookRepository;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@RequiredArgsConstructor
+public class BookSearchEngine {
+    private static final Map<String, Comparator<BookIndex.IndexedBook>> SORTABLE_FIELDS = Map.of(
+            "id", comparing(book -> book.book().getId()),
+            "title", comparing(BookIndex.IndexedBook::titleKey),
+            "author", comparing(BookIndex.IndexedBook::authorKey),
+            "isbn", comparing(book -> book.book().getIsbn()),
+            "price", comparing(book -> book.book().getPrice()));
+
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private volatile CatalogSnapshot snapshot;
+    private final LiveIndex<BookIndex> index =
+            new LiveIndex<>(new BookIndex(), () -> snapshot = null);
+    @Value("${book-facets.price-bands}")
+    private List<BigDecimal> priceBands;
+    @Value("${book-facets.max-authors}")
+    private int maxAuthors;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.index.refresh-interval}",
+            fixedDelayString = "${search.index.refresh-interval}")
+    public void rebuild() {
+        index.rebuild(() -> {
+            BookIndex rebuiltIndex = new BookIndex();
+            bookMapper.toDtoList(bookRepository.findAllWithCategories())
+                    .forEach(rebuiltIndex::put);
+            return rebuiltIndex;
+        });
+    }
+
+    public void index(BookDto book) {
+        BookDto snapshot = copyOf(book);
+        index.changeAfterCommit(bookIndex -> bookIndex.put(snapshot));
+    }
+
+    public void remove(Long bookId) {
+        index.changeAfterCommit(bookIndex -> bookIndex.remove(bookId));
+    }
+
+    public List<BookDto> search(BookSearchParametersDto params, Pageable pageable) {
+        final Comparator<BookIndex.IndexedBook> order = requireComparator(pageable.getSort());
+        requireTokens(params.title(), params.author(), params.isbn());
+        requireIndex();
+
+        List<BookIndex.IndexedBook> matches = index.read(bookIndex -> bookIndex.match(params));
+
+        return matches.stream()
+                .sorted(order)
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(book -> copyOf(book.book()))
+                .toList();
+    }
+
+    public BookFacetSearchResultDto facetedSearch(
+            BookFacetSearchParametersDto params, Pageable pageable) {
+        final Comparator<BookIndex.IndexedBook> order = requireComparator(pageable.getSort());
+        if (params.minPrice() != null && params.maxPrice() != null
+                && params.minPrice().compareTo(params.maxPrice()) > 0) {
+            throw new InvalidSearchParametersException(
+                    "Min price can't be greater than max price");
+        }
+        requireTokens(params.title(), params.author(), params.isbn());
+        requireIndex();
+
+        CatalogSnapshot.Result result = index.read(bookIndex -> {
+            Set<Long> textMatches = hasText(params) ? bookIndex.match(new BookSearchParametersDto(
+                    params.title(), params.author(), params.isbn())).stream()
+                    .map(book -> book.book().getId())
+                    .collect(Collectors.toSet()) : null;
+            return snapshot(bookIndex).search(textMatches, params, maxAuthors);
+        });
+
+        List<BookDto> page = result.books().stream()
+                .sorted(order)
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(book -> copyOf(book.book()))
+                .toList();
+        return new BookFacetSearchResultDto(page, result.books().size(),
+                result.categories(), result.authors(), result.priceBands());
+    }
+
+    public List<BookDto> fuzzySearch(BookSearchParametersDto params, Pageable pageable) {
+        final Comparator<BookIndex.IndexedBook> order = requireComparator(pageable.getSort());
+        requireTokens(params.title(), params.author(), params.isbn());
+        requireIndex();
+
+        List<BookIndex.ScoredBook> matches = index.read(bookIndex -> bookIndex.fuzzyMatch(params));
+
+        return matches.stream()
+                .sorted(Comparator.comparingDouble(BookIndex.ScoredBook::similarity).reversed()
+                        .thenComparing(BookIndex.ScoredBook::book, order))
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(match -> copyOf(match.book().book()))
+                .toList();
+    }
+
+    private void requireIndex() {
+        if (!index.isReady()) {
+            throw new SearchIndexUnavailableException(
+                    "The search index is still being built, please retry shortly");
+        }
+    }
+
+    private static void requireTokens(String title, String author, String isbn) {
+        if (StringUtils.hasText(title) && Tokenizer.tokenize(title).isEmpty()
+                || StringUtils.hasText(author) && Tokenizer.tokenize(author).isEmpty()
+                || StringUtils.hasText(isbn) && Tokenizer.isbnTokens(isbn).isEmpty()) {
+            throw new InvalidSearchParametersException(
+                    "Search parameters must contain letters or digits");
+        }
+    }
+
+    private CatalogSnapshot snapshot(BookIndex bookIndex) {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            current = CatalogSnapshot.of(bookIndex.documents(), priceBands);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static boolean hasText(BookFacetSearchParametersDto params) {
+        return StringUtils.hasText(params.title()) || StringUtils.hasText(params.author())
+                || StringUtils.hasText(params.isbn());
+    }
+
+    private static Comparator<BookIndex.IndexedBook> requireComparator(Sort sort) {
+        return toComparator(sort).orElseThrow(
+                () -> new InvalidSearchParametersException("Can't sort books by: " + sort));
+    }
+
+    private static Optional<Comparator<BookIndex.IndexedBook>> toComparator(Sort sort) {
+        Comparator<BookIndex.IndexedBook> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<BookIndex.IndexedBook> field = SORTABLE_FIELDS.get(order.getProperty());
+            if (field == null) {
+                return Optional.empty();
+            }
+            field = order.isDescending() ? field.reversed() : field;
+            comparator = comparator == null ? field : comparator.thenComparing(field);
+        }
+        Comparator<BookIndex.IndexedBook> byId = SORTABLE_FIELDS.get("id");
+        return Optional.of(comparator == null ? byId : comparator.thenComparing(byId));
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<BookIndex.IndexedBook> comparing(
+            Function<BookIndex.IndexedBook, T> field) {
+        return Comparator.comparing(field, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private static BookDto copyOf(BookDto book) {
+        return new BookDto()
+                .setId(book.getId())
+                .setTitle(book.getTitle())
+                .setAuthor(book.getAuthor())
+                .setIsbn(book.getIsbn())
+                .setPrice(book.getPrice())
+                .setDescription(book.getDescription())
+                .setCoverImage(book.getCoverImage())
+                .setCategoryIds(book.getCategoryIds() == null
+                        ? null : new HashSet<>(book.getCategoryIds()));
+    }
+}
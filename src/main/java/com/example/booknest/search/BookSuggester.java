@@ -0,0 +1,55 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import com.example.booknest.repository.book.BookLabel;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.orderitem.BookSales;
+import com.example.booknest.repository.orderitem.OrderItemRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookSuggester {
+    private final BookRepository bookRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final LiveIndex<BookSuggestions> suggestions =
+            new LiveIndex<>(new BookSuggestions(Map.of()));
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.index.refresh-interval}",
+            fixedDelayString = "${search.index.refresh-interval}")
+    public void rebuild() {
+        suggestions.rebuild(() -> {
+            Map<Long, Long> salesByBookId = orderItemRepository.sumQuantityByBook().stream()
+                    .collect(Collectors.toMap(BookSales::bookId, BookSales::quantity));
+            BookSuggestions rebuiltSuggestions = new BookSuggestions(salesByBookId);
+            for (BookLabel book : bookRepository.findAllLabels()) {
+                rebuiltSuggestions.putBook(book.bookId(), book.title(), book.author());
+            }
+            return rebuiltSuggestions;
+        });
+    }
+
+    public void index(BookDto book) {
+        Long bookId = book.getId();
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        suggestions.changeAfterCommit(index -> index.putBook(bookId, title, author));
+    }
+
+    public void remove(Long bookId) {
+        suggestions.changeAfterCommit(index -> index.removeBook(bookId));
+    }
+
+    public List<BookSuggestionDto> suggest(String prefix, int limit) {
+        return suggestions.read(index -> index.complete(prefix, limit));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import com.example.booknest.dto.suggestion.SuggestionType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class BookSuggestions {
+    private static final String TITLE_KEY = "title:";
+    private static final String AUTHOR_KEY = "author:";
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+    private final Map<Long, BookEntry> books = new HashMap<>();
+    private final Map<String, AuthorEntry> authors = new HashMap<>();
+    private final Map<Long, Long> salesByBookId;
+
+    BookSuggestions(Map<Long, Long> salesByBookId) {
+        this.salesByBookId = new HashMap<>(salesByBookId);
+    }
+
+    void putBook(Long bookId, String title, String author) {
+        removeBook(bookId);
+        long sales = salesByBookId.getOrDefault(bookId, 0L);
+        books.put(bookId, new BookEntry(title, author));
+        if (title != null) {
+            trie.put(TITLE_KEY + bookId,
+                    new BookSuggestionDto(title, SuggestionType.TITLE, bookId), sales);
+        }
+        if (author != null) {
+            AuthorEntry entry = authors.computeIfAbsent(authorKey(author),
+                    key -> new AuthorEntry(author));
+            entry.books++;
+            entry.sales += sales;
+            putAuthor(entry);
+        }
+    }
+
+    void removeBook(Long bookId) {
+        BookEntry book = books.remove(bookId);
+        if (book == null) {
+            return;
+        }
+        trie.remove(TITLE_KEY + bookId);
+        if (book.author() != null) {
+            String key = authorKey(book.author());
+            AuthorEntry entry = authors.get(key);
+            entry.books--;
+            entry.sales -= salesByBookId.getOrDefault(bookId, 0L);
+            if (entry.books == 0) {
+                authors.remove(key);
+                trie.remove(AUTHOR_KEY + key);
+            } else {
+                putAuthor(entry);
+            }
+        }
+    }
+
+    List<BookSuggestionDto> complete(String prefix, int limit) {
+        return trie.complete(prefix, limit);
+    }
+
+    private void putAuthor(AuthorEntry entry) {
+        trie.put(AUTHOR_KEY + authorKey(entry.name),
+                new BookSuggestionDto(entry.name, SuggestionType.AUTHOR, null), entry.sales);
+    }
+
+    private static String authorKey(String author) {
+        return String.join(" ", Tokenizer.words(author));
+    }
+
+    private record BookEntry(String title, String author) {
+    }
+
+    private static final class AuthorEntry {
+        private final String name;
+        private int books;
+        private long sales;
+
+        private AuthorEntry(String name) {
+            this.name = name;
+        }
+    }
+}
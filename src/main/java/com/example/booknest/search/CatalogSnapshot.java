@@ -0,0 +1,204 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.facet.AuthorFacetDto;
+import com.example.booknest.dto.facet.BookFacetSearchParametersDto;
+import com.example.booknest.dto.facet.CategoryFacetDto;
+import com.example.booknest.dto.facet.PriceBandFacetDto;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+class CatalogSnapshot {
+    private static final int NONE = -1;
+
+    private final BookIndex.IndexedBook[] books;
+    private final long[] categoryDictionary;
+    private final Map<Long, Integer> categoryCodes;
+    private final int[] categoryOffsets;
+    private final int[] bookCategoryCodes;
+    private final String[] authorDictionary;
+    private final Map<String, Integer> authorCodes;
+    private final int[] bookAuthorCodes;
+    private final long[] bookPriceCents;
+    private final BigDecimal[] priceBounds;
+    private final int[] bookPriceBands;
+
+    private CatalogSnapshot(Collection<BookIndex.IndexedBook> documents,
+                            List<BigDecimal> priceBounds) {
+        final int size = documents.size();
+        this.books = documents.toArray(BookIndex.IndexedBook[]::new);
+        this.priceBounds = priceBounds.stream().sorted().toArray(BigDecimal[]::new);
+        this.categoryCodes = new HashMap<>();
+        this.authorCodes = new HashMap<>();
+        this.categoryOffsets = new int[size + 1];
+        this.bookAuthorCodes = new int[size];
+        this.bookPriceCents = new long[size];
+        this.bookPriceBands = new int[size];
+
+        List<Long> categories = new ArrayList<>();
+        List<String> authors = new ArrayList<>();
+        int[] categoryColumn = new int[size];
+        int categoryCount = 0;
+        for (int row = 0; row < size; row++) {
+            BookDto book = books[row].book();
+            categoryOffsets[row] = categoryCount;
+            if (book.getCategoryIds() != null) {
+                for (Long categoryId : book.getCategoryIds()) {
+                    if (categoryCount == categoryColumn.length) {
+                        categoryColumn = Arrays.copyOf(categoryColumn, categoryCount * 2 + 1);
+                    }
+                    categoryColumn[categoryCount++] = categoryCodes.computeIfAbsent(categoryId,
+                            id -> addTo(categories, id));
+                }
+            }
+            bookAuthorCodes[row] = book.getAuthor() == null ? NONE
+                    : authorCodes.computeIfAbsent(book.getAuthor(), a -> addTo(authors, a));
+            bookPriceCents[row] = book.getPrice() == null ? NONE : toCents(book.getPrice());
+            bookPriceBands[row] = book.getPrice() == null ? NONE : priceBand(book.getPrice());
+        }
+        categoryOffsets[size] = categoryCount;
+        this.bookCategoryCodes = Arrays.copyOf(categoryColumn, categoryCount);
+        this.categoryDictionary = categories.stream().mapToLong(Long::longValue).toArray();
+        this.authorDictionary = authors.toArray(String[]::new);
+    }
+
+    static CatalogSnapshot of(Collection<BookIndex.IndexedBook> documents,
+                              List<BigDecimal> priceBounds) {
+        return new CatalogSnapshot(documents, priceBounds);
+    }
+
+    Result search(Set<Long> textMatches, BookFacetSearchParametersDto params, int maxAuthors) {
+        boolean[] selectedCategories = new boolean[categoryDictionary.length];
+        boolean categoryFilter = select(params.categoryIds(), categoryCodes, selectedCategories);
+        boolean[] selectedAuthors = new boolean[authorDictionary.length];
+        boolean authorFilter = select(params.authors(), authorCodes, selectedAuthors);
+        long minPrice = params.minPrice() == null ? Long.MIN_VALUE : toCents(params.minPrice());
+        long maxPrice = params.maxPrice() == null ? Long.MAX_VALUE : toCents(params.maxPrice());
+
+        long[] categoryCounts = new long[categoryDictionary.length];
+        long[] authorCounts = new long[authorDictionary.length];
+        long[] priceBandCounts = new long[priceBounds.length + 1];
+        List<BookIndex.IndexedBook> matches = new ArrayList<>();
+        for (int row = 0; row < books.length; row++) {
+            if (textMatches != null && !textMatches.contains(books[row].book().getId())) {
+                continue;
+            }
+            boolean inCategories = !categoryFilter || inCategories(row, selectedCategories);
+            boolean byAuthor = !authorFilter || (bookAuthorCodes[row] != NONE
+                    && selectedAuthors[bookAuthorCodes[row]]);
+            boolean inPriceRange = bookPriceCents[row] >= minPrice
+                    && bookPriceCents[row] <= maxPrice;
+            if (byAuthor && inPriceRange) {
+                for (int i = categoryOffsets[row]; i < categoryOffsets[row + 1]; i++) {
+                    categoryCounts[bookCategoryCodes[i]]++;
+                }
+            }
+            if (inCategories && inPriceRange && bookAuthorCodes[row] != NONE) {
+                authorCounts[bookAuthorCodes[row]]++;
+            }
+            if (inCategories && byAuthor && bookPriceBands[row] != NONE) {
+                priceBandCounts[bookPriceBands[row]]++;
+            }
+            if (inCategories && byAuthor && inPriceRange) {
+                matches.add(books[row]);
+            }
+        }
+        return new Result(matches,
+                toCategoryFacets(categoryCounts),
+                toAuthorFacets(authorCounts, params.authors(), maxAuthors),
+                toPriceBandFacets(priceBandCounts));
+    }
+
+    private boolean inCategories(int row, boolean[] selectedCategories) {
+        for (int i = categoryOffsets[row]; i < categoryOffsets[row + 1]; i++) {
+            if (selectedCategories[bookCategoryCodes[i]]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<CategoryFacetDto> toCategoryFacets(long[] counts) {
+        return IntStream.range(0, counts.length)
+                .filter(code -> counts[code] > 0)
+                .mapToObj(code -> new CategoryFacetDto(categoryDictionary[code], counts[code]))
+                .sorted(Comparator.comparingLong(CategoryFacetDto::count).reversed()
+                        .thenComparing(CategoryFacetDto::categoryId))
+                .toList();
+    }
+
+    private List<AuthorFacetDto> toAuthorFacets(long[] counts, Set<String> selectedAuthors,
+                                                int maxAuthors) {
+        List<AuthorFacetDto> facets = new ArrayList<>(IntStream.range(0, counts.length)
+                .filter(code -> counts[code] > 0)
+                .mapToObj(code -> new AuthorFacetDto(authorDictionary[code], counts[code]))
+                .sorted(Comparator.comparingLong(AuthorFacetDto::count).reversed()
+                        .thenComparing(AuthorFacetDto::author))
+                .limit(maxAuthors)
+                .toList());
+        if (selectedAuthors != null) {
+            selectedAuthors.stream()
+                    .filter(author -> facets.stream().noneMatch(f -> f.author().equals(author)))
+                    .sorted()
+                    .forEach(author -> {
+                        Integer code = authorCodes.get(author);
+                        facets.add(new AuthorFacetDto(author, code == null ? 0 : counts[code]));
+                    });
+        }
+        return facets;
+    }
+
+    private List<PriceBandFacetDto> toPriceBandFacets(long[] counts) {
+        return IntStream.range(0, counts.length)
+                .mapToObj(band -> new PriceBandFacetDto(
+                        band == 0 ? BigDecimal.ZERO : priceBounds[band - 1],
+                        band == priceBounds.length ? null : priceBounds[band],
+                        counts[band]))
+                .toList();
+    }
+
+    private int priceBand(BigDecimal price) {
+        int band = 0;
+        while (band < priceBounds.length && price.compareTo(priceBounds[band]) >= 0) {
+            band++;
+        }
+        return band;
+    }
+
+    private static <T> boolean select(Set<T> values, Map<T, Integer> codes, boolean[] selected) {
+        if (values == null || values.isEmpty()) {
+            return false;
+        }
+        values.stream()
+                .map(codes::get)
+                .filter(Objects::nonNull)
+                .forEach(code -> selected[code] = true);
+        return true;
+    }
+
+    private static <T> int addTo(List<T> dictionary, T value) {
+        dictionary.add(value);
+        return dictionary.size() - 1;
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    record Result(
+            List<BookIndex.IndexedBook> books,
+            List<CategoryFacetDto> categories,
+            List<AuthorFacetDto> authors,
+            List<PriceBandFacetDto> priceBands) {
+    }
+}
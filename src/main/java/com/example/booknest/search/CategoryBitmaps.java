@@ -0,0 +1,197 @@
+package com.example.booknest.search;
+
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class CategoryBitmaps {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+
+    private final Map<Long, Roaring64Bitmap> booksByCategory = new HashMap<>();
+    private final Map<Long, String> titles = new HashMap<>();
+    private volatile TitleRanks titleRanks;
+
+    void put(Long bookId, String title, Collection<Long> categoryIds) {
+        remove(bookId);
+        titles.put(bookId, title);
+        titleRanks = null;
+        categoryIds.forEach(categoryId -> booksByCategory
+                .computeIfAbsent(categoryId, id -> new Roaring64Bitmap())
+                .add(bookId));
+    }
+
+    void remove(Long bookId) {
+        if (titles.remove(bookId) == null) {
+            return;
+        }
+        booksByCategory.values().removeIf(books -> {
+            books.removeLong(bookId);
+            return books.isEmpty();
+        });
+        titleRanks = null;
+    }
+
+    void removeCategory(Long categoryId) {
+        booksByCategory.remove(categoryId);
+        titleRanks = null;
+    }
+
+    void optimize() {
+        booksByCategory.values().forEach(Roaring64Bitmap::runOptimize);
+    }
+
+    private Roaring64Bitmap match(Collection<Long> categoryIds, CategoryMatch match) {
+        List<Roaring64Bitmap> bitmaps = categoryIds.stream()
+                .map(categoryId -> booksByCategory.getOrDefault(categoryId, new Roaring64Bitmap()))
+                .sorted(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality))
+                .toList();
+        Roaring64Bitmap result = new Roaring64Bitmap();
+        if (bitmaps.isEmpty()) {
+            return result;
+        }
+        result.or(bitmaps.get(0));
+        for (int i = 1; i < bitmaps.size(); i++) {
+            if (match == CategoryMatch.ALL) {
+                result.and(bitmaps.get(i));
+            } else {
+                result.or(bitmaps.get(i));
+            }
+        }
+        return result;
+    }
+
+    Map<Long, Long> counts() {
+        Map<Long, Long> counts = new HashMap<>();
+        booksByCategory.forEach((categoryId, books) ->
+                counts.put(categoryId, books.getLongCardinality()));
+        return counts;
+    }
+
+    Optional<List<Long>> page(Collection<Long> categoryIds, CategoryMatch match,
+                              Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return Optional.of(take(match(categoryIds, match).getLongIterator(), pageable));
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return Optional.empty();
+        }
+        Sort.Order order = orders.get(0);
+        if (ID.equals(order.getProperty())) {
+            Roaring64Bitmap matches = match(categoryIds, match);
+            return Optional.of(take(order.isAscending()
+                    ? matches.getLongIterator()
+                    : matches.getReverseLongIterator(), pageable));
+        }
+        if (TITLE.equals(order.getProperty())) {
+            return Optional.of(titleRanks().page(categoryIds, match, order.isAscending(),
+                    pageable));
+        }
+        return Optional.empty();
+    }
+
+    int size() {
+        return titles.size();
+    }
+
+    private TitleRanks titleRanks() {
+        TitleRanks ranks = titleRanks;
+        if (ranks == null) {
+            ranks = TitleRanks.of(titles, booksByCategory);
+            titleRanks = ranks;
+        }
+        return ranks;
+    }
+
+    private static List<Long> take(LongIterator iterator, Pageable pageable) {
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        long limit = pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE;
+        List<Long> bookIds = new ArrayList<>();
+        while (iterator.hasNext() && bookIds.size() < limit) {
+            long bookId = iterator.next();
+            if (skip > 0) {
+                skip--;
+            } else {
+                bookIds.add(bookId);
+            }
+        }
+        return bookIds;
+    }
+
+    // Category members keyed by their position in title order, so a title-sorted page only
+    // visits the matching books instead of the whole catalog
+    private record TitleRanks(long[] bookIdsByRank, Map<Long, RoaringBitmap> ranksByCategory) {
+        static TitleRanks of(Map<Long, String> titles, Map<Long, Roaring64Bitmap> booksByCategory) {
+            // One collation key per title turns the sort into plain byte comparisons
+            Map<Long, CollationKey> titleKeys = new HashMap<>(titles.size() * 2);
+            titles.forEach((bookId, title) -> titleKeys.put(bookId, TextCollation.key(title)));
+            long[] bookIdsByRank = titleKeys.entrySet().stream()
+                    .sorted(Map.Entry.<Long, CollationKey>comparingByValue(
+                                    Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .mapToLong(Map.Entry::getKey)
+                    .toArray();
+            Map<Long, Integer> rankByBookId = new HashMap<>(bookIdsByRank.length * 2);
+            for (int rank = 0; rank < bookIdsByRank.length; rank++) {
+                rankByBookId.put(bookIdsByRank[rank], rank);
+            }
+            Map<Long, RoaringBitmap> ranksByCategory = new HashMap<>();
+            booksByCategory.forEach((categoryId, books) -> {
+                RoaringBitmap ranks = new RoaringBitmap();
+                books.forEach(bookId -> ranks.add(rankByBookId.get(bookId)));
+                ranks.runOptimize();
+                ranksByCategory.put(categoryId, ranks);
+            });
+            return new TitleRanks(bookIdsByRank, ranksByCategory);
+        }
+
+        List<Long> page(Collection<Long> categoryIds, CategoryMatch match, boolean ascending,
+                        Pageable pageable) {
+            RoaringBitmap ranks = new RoaringBitmap();
+            boolean first = true;
+            for (Long categoryId : categoryIds) {
+                RoaringBitmap category =
+                        ranksByCategory.getOrDefault(categoryId, new RoaringBitmap());
+                if (first || match == CategoryMatch.ANY) {
+                    ranks.or(category);
+                } else {
+                    ranks.and(category);
+                }
+                first = false;
+            }
+            int cardinality = ranks.getCardinality();
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            long size = pageable.isPaged() ? pageable.getPageSize() : cardinality;
+            if (offset >= cardinality) {
+                return List.of();
+            }
+            // A descending page is the mirrored ascending slice, read forwards and reversed
+            long from = ascending ? offset : Math.max(0, cardinality - offset - size);
+            long to = ascending ? Math.min(cardinality, offset + size) : cardinality - offset;
+            List<Long> bookIds = new ArrayList<>((int) (to - from));
+            PeekableIntIterator iterator = ranks.getIntIterator();
+            iterator.advanceIfNeeded(ranks.select((int) from));
+            for (long position = from; position < to; position++) {
+                bookIds.add(bookIdsByRank[iterator.next()]);
+            }
+            if (!ascending) {
+                Collections.reverse(bookIds);
+            }
+            return bookIds;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.repository.book.BookCategoryLink;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.book.BookTitle;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryBookIndex {
+    private final BookRepository bookRepository;
+    private final LiveIndex<CategoryBitmaps> bitmaps = new LiveIndex<>(new CategoryBitmaps());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.index.refresh-interval}",
+            fixedDelayString = "${search.index.refresh-interval}")
+    public void rebuild() {
+        bitmaps.rebuild(() -> {
+            Map<Long, Set<Long>> categoryIdsByBookId = bookRepository.findAllCategoryLinks()
+                    .stream()
+                    .collect(Collectors.groupingBy(BookCategoryLink::bookId, Collectors.mapping(
+                            BookCategoryLink::categoryId, Collectors.toSet())));
+            CategoryBitmaps rebuiltBitmaps = new CategoryBitmaps();
+            for (BookTitle book : bookRepository.findAllTitles()) {
+                rebuiltBitmaps.put(book.bookId(), book.title(),
+                        categoryIdsByBookId.getOrDefault(book.bookId(), Set.of()));
+            }
+            rebuiltBitmaps.optimize();
+            return rebuiltBitmaps;
+        });
+    }
+
+    public void index(BookDto book) {
+        Long bookId = book.getId();
+        String title = book.getTitle();
+        Set<Long> categoryIds = book.getCategoryIds() == null
+                ? Set.of() : Set.copyOf(book.getCategoryIds());
+        bitmaps.changeAfterCommit(index -> index.put(bookId, title, categoryIds));
+    }
+
+    public void remove(Long bookId) {
+        bitmaps.changeAfterCommit(index -> index.remove(bookId));
+    }
+
+    public void removeCategory(Long categoryId) {
+        bitmaps.changeAfterCommit(index -> index.removeCategory(categoryId));
+    }
+
+    public Optional<List<Long>> findBookIds(Collection<Long> categoryIds, CategoryMatch match,
+                                            Pageable pageable) {
+        if (!bitmaps.isReady()) {
+            return Optional.empty();
+        }
+        return bitmaps.read(index -> index.page(categoryIds, match, pageable));
+    }
+
+    public Optional<Map<Long, Long>> countBooksByCategory() {
+        if (!bitmaps.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(bitmaps.read(CategoryBitmaps::counts));
+    }
+}
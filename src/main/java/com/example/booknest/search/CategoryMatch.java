@@ -0,0 +1,6 @@
+package com.example.booknest.search;
+
+public enum CategoryMatch {
+    ALL,
+    ANY
+}
@@ -0,0 +1,123 @@
+package com.example.booknest.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+class FuzzyWordIndex {
+    private static final char PADDING = '$';
+    private static final int GRAM_LENGTH = 2;
+    private static final int GRAMS_PER_EDIT = 3;
+    private static final int ONE_EDIT_MIN_LENGTH = 3;
+    private static final int TWO_EDITS_MIN_LENGTH = 6;
+
+    private final Map<String, Integer> bookCounts = new HashMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+
+    void add(Collection<String> words) {
+        words.forEach(word -> {
+            if (bookCounts.merge(word, 1, Integer::sum) == 1) {
+                grams(word).forEach(gram ->
+                        wordsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(word));
+            }
+        });
+    }
+
+    void remove(Collection<String> words) {
+        words.forEach(word -> {
+            Integer count = bookCounts.get(word);
+            if (count == null) {
+                return;
+            }
+            if (count > 1) {
+                bookCounts.put(word, count - 1);
+                return;
+            }
+            bookCounts.remove(word);
+            grams(word).forEach(gram -> {
+                Set<String> gramWords = wordsByGram.get(gram);
+                if (gramWords != null && gramWords.remove(word) && gramWords.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            });
+        });
+    }
+
+    Map<String, Double> similarWords(String word) {
+        int maxEdits = maxEdits(word);
+        if (maxEdits == 0) {
+            return bookCounts.containsKey(word) ? Map.of(word, 1.0) : Map.of();
+        }
+        Set<String> grams = grams(word);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : grams) {
+            for (String candidate : wordsByGram.getOrDefault(gram, Set.of())) {
+                if (Math.abs(candidate.length() - word.length()) <= maxEdits) {
+                    sharedGrams.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        int minSharedGrams = Math.max(1, grams.size() - GRAMS_PER_EDIT * maxEdits);
+        Map<String, Double> similarWords = new HashMap<>();
+        sharedGrams.forEach((candidate, shared) -> {
+            if (shared >= minSharedGrams) {
+                int distance = distance(word, candidate, maxEdits);
+                if (distance <= maxEdits) {
+                    similarWords.put(candidate, 1.0 - (double) distance
+                            / Math.max(word.length(), candidate.length()));
+                }
+            }
+        });
+        return similarWords;
+    }
+
+    private static int maxEdits(String word) {
+        if (word.length() >= TWO_EDITS_MIN_LENGTH) {
+            return 2;
+        }
+        return word.length() >= ONE_EDIT_MIN_LENGTH ? 1 : 0;
+    }
+
+    private static Set<String> grams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static int distance(String source, String target, int maxEdits) {
+        int[] previousRow = new int[target.length() + 1];
+        int[] row = new int[target.length() + 1];
+        int[] nextRow = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            nextRow[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int edits = Math.min(Math.min(nextRow[j - 1] + 1, row[j] + 1), row[j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    edits = Math.min(edits, previousRow[j - 2] + 1);
+                }
+                nextRow[j] = edits;
+                rowMin = Math.min(rowMin, edits);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previousRow;
+            previousRow = row;
+            row = nextRow;
+            nextRow = recycled;
+        }
+        return row[target.length()];
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.booknest.search;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class InvertedIndex {
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    public void add(Long id, Collection<String> tokens) {
+        tokens.forEach(token -> postings.computeIfAbsent(token, t -> new HashSet<>()).add(id));
+    }
+
+    public void remove(Long id, Collection<String> tokens) {
+        tokens.forEach(token -> {
+            Set<Long> ids = postings.get(token);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(token);
+            }
+        });
+    }
+
+    public Set<Long> match(String token) {
+        return Collections.unmodifiableSet(postings.getOrDefault(token, Set.of()));
+    }
+
+    public Set<Long> matchAll(Collection<String> tokens) {
+        List<Set<Long>> lists = tokens.stream()
+                .map(token -> postings.getOrDefault(token, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+        if (lists.isEmpty() || lists.get(0).isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return postings.size();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.booknest.search;
+
+import com.example.booknest.transaction.TransactionCallbacks;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+class LiveIndex<T> {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Runnable onChange;
+    private T index;
+    private List<Consumer<T>> changedDuringRebuild;
+    private volatile boolean ready;
+
+    LiveIndex(T emptyIndex) {
+        this(emptyIndex, () -> {
+        });
+    }
+
+    LiveIndex(T emptyIndex, Runnable onChange) {
+        this.index = emptyIndex;
+        this.onChange = onChange;
+    }
+
+    synchronized void rebuild(Supplier<T> loader) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        T rebuiltIndex;
+        try {
+            rebuiltIndex = loader.get();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Changes committed while the catalog was being read may be missing from it
+            changedDuringRebuild.forEach(change -> change.accept(rebuiltIndex));
+            changedDuringRebuild = null;
+            index = rebuiltIndex;
+            ready = true;
+            onChange.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void changeAfterCommit(Consumer<T> change) {
+        TransactionCallbacks.afterCommit(() -> apply(change));
+    }
+
+    <R> R read(Function<T, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    private void apply(Consumer<T> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(change);
+            }
+            onChange.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
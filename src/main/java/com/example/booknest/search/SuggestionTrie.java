@@ -0,0 +1,292 @@
+package com.example.booknest.search;
+
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+class SuggestionTrie {
+    private static final int MAX_SUFFIXES = 8;
+    private static final int LENGTH_BITS = 16;
+    private static final long MAX_LENGTH = (1L << LENGTH_BITS) - 1;
+    private static final long NO_SCORE = -1;
+
+    private final Node root = new Node("", 0, 0);
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    void put(String key, BookSuggestionDto suggestion, long weight) {
+        remove(key);
+        String path = String.join(" ", Tokenizer.words(suggestion.text()));
+        if (path.isEmpty()) {
+            return;
+        }
+        Entry entry = new Entry(key, suggestion, score(weight, suggestion.text()), path);
+        entries.put(key, entry);
+        suffixStarts(path).forEach(from -> insert(path, from, entry));
+    }
+
+    void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            suffixStarts(entry.path()).forEach(from -> delete(root, entry.path(), from, entry));
+        }
+    }
+
+    List<BookSuggestionDto> complete(String prefix, int limit) {
+        Node node = find(toPath(prefix));
+        if (node == null) {
+            return List.of();
+        }
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Candidate.BEST_FIRST);
+        candidates.add(new Candidate(node.bestScore, node, null));
+        Set<String> emittedKeys = new HashSet<>();
+        List<BookSuggestionDto> suggestions = new ArrayList<>(limit);
+        while (!candidates.isEmpty() && suggestions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            if (candidate.entry() != null) {
+                if (emittedKeys.add(candidate.entry().key())) {
+                    suggestions.add(candidate.entry().suggestion());
+                }
+                continue;
+            }
+            Node current = candidate.node();
+            for (Entry entry : current.entries) {
+                candidates.add(new Candidate(entry.score(), null, entry));
+            }
+            for (Node child : current.children) {
+                candidates.add(new Candidate(child.bestScore, child, null));
+            }
+        }
+        return suggestions;
+    }
+
+    private void insert(String path, int from, Entry entry) {
+        Node node = root;
+        node.bestScore = Math.max(node.bestScore, entry.score());
+        int depth = from;
+        while (depth < path.length()) {
+            Node child = node.child(path.charAt(depth));
+            if (child == null) {
+                child = new Node(path, depth, path.length());
+                node.addChild(child);
+            } else {
+                int common = child.commonPrefix(path, depth);
+                if (common < child.length()) {
+                    child = node.split(child, common);
+                }
+            }
+            child.bestScore = Math.max(child.bestScore, entry.score());
+            depth += child.length();
+            node = child;
+        }
+        node.addEntry(entry);
+    }
+
+    private boolean delete(Node node, String path, int depth, Entry entry) {
+        if (depth == path.length()) {
+            node.removeEntry(entry);
+        } else {
+            Node child = node.child(path.charAt(depth));
+            if (child != null && child.commonPrefix(path, depth) == child.length()) {
+                if (delete(child, path, depth + child.length(), entry)) {
+                    node.removeChild(child);
+                } else if (child.entries.length == 0 && child.children.length == 1) {
+                    node.mergeWithOnlyChild(child);
+                }
+            }
+        }
+        node.updateBestScore();
+        return node.entries.length == 0 && node.children.length == 0;
+    }
+
+    private Node find(String path) {
+        Node node = root;
+        int depth = 0;
+        while (depth < path.length()) {
+            Node child = node.child(path.charAt(depth));
+            if (child == null) {
+                return null;
+            }
+            int common = child.commonPrefix(path, depth);
+            if (depth + common == path.length()) {
+                return child;
+            }
+            if (common < child.length()) {
+                return null;
+            }
+            depth += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private static List<Integer> suffixStarts(String path) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        for (int i = 0; i < path.length() && starts.size() < MAX_SUFFIXES; i++) {
+            if (path.charAt(i) == ' ') {
+                starts.add(i + 1);
+            }
+        }
+        return starts;
+    }
+
+    private static String toPath(String prefix) {
+        String path = String.join(" ", Tokenizer.words(prefix));
+        boolean wordCompleted = !path.isEmpty()
+                && !Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1));
+        return wordCompleted ? path + " " : path;
+    }
+
+    private static long score(long weight, String text) {
+        return (weight << LENGTH_BITS) | (MAX_LENGTH - Math.min(text.length(), MAX_LENGTH));
+    }
+
+    private record Entry(
+            String key,
+            BookSuggestionDto suggestion,
+            long score,
+            String path) {
+    }
+
+    private record Candidate(long score, Node node, Entry entry) {
+        private static final Comparator<Candidate> BEST_FIRST = Comparator
+                .comparingLong(Candidate::score).reversed()
+                .thenComparing(candidate -> candidate.entry() != null)
+                .thenComparing(candidate -> candidate.entry() == null
+                        ? "" : candidate.entry().suggestion().text());
+    }
+
+    // Edge labels are ranges of an entry path that spells the whole route from the root,
+    // so every word suffix of a title shares that title's single normalized string
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private final String source;
+        private int start;
+        private final int end;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+        private long bestScore = NO_SCORE;
+
+        private Node(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        private int length() {
+            return end - start;
+        }
+
+        private char label() {
+            return source.charAt(start);
+        }
+
+        private int commonPrefix(String path, int from) {
+            int max = Math.min(length(), path.length() - from);
+            int common = 0;
+            while (common < max && source.charAt(start + common) == path.charAt(from + common)) {
+                common++;
+            }
+            return common;
+        }
+
+        private Node child(char label) {
+            int index = indexOf(label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            int insertAt = -indexOf(child.label()) - 1;
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, insertAt);
+            grown[insertAt] = child;
+            System.arraycopy(children, insertAt, grown, insertAt + 1, children.length - insertAt);
+            children = grown;
+        }
+
+        private void removeChild(Node child) {
+            int index = indexOf(child.label());
+            if (children.length == 1) {
+                children = NO_CHILDREN;
+                return;
+            }
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        private Node split(Node child, int at) {
+            final int index = indexOf(child.label());
+            Node head = new Node(child.source, child.start, child.start + at);
+            head.children = new Node[] {child};
+            head.bestScore = child.bestScore;
+            child.start += at;
+            children[index] = head;
+            return head;
+        }
+
+        private void mergeWithOnlyChild(Node child) {
+            int index = indexOf(child.label());
+            Node grandchild = child.children[0];
+            grandchild.start -= child.length();
+            children[index] = grandchild;
+        }
+
+        private void addEntry(Entry entry) {
+            Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+            grown[entries.length] = entry;
+            entries = grown;
+        }
+
+        private void removeEntry(Entry entry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i] == entry) {
+                    Entry[] shrunk = entries.length == 1
+                            ? NO_ENTRIES : new Entry[entries.length - 1];
+                    System.arraycopy(entries, 0, shrunk, 0, i);
+                    System.arraycopy(entries, i + 1, shrunk, i, entries.length - i - 1);
+                    entries = shrunk;
+                    return;
+                }
+            }
+        }
+
+        private void updateBestScore() {
+            long best = NO_SCORE;
+            for (Entry entry : entries) {
+                best = Math.max(best, entry.score());
+            }
+            for (Node child : children) {
+                best = Math.max(best, child.bestScore);
+            }
+            bestScore = best;
+        }
+
+        private int indexOf(char label) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midLabel = children[mid].label();
+                if (midLabel < label) {
+                    low = mid + 1;
+                } else if (midLabel > label) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.booknest.search;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+final class TextCollation {
+    // Ignores case and accents like the utf8mb4_0900_ai_ci collation of the database
+    private static final Collator PROTOTYPE = primaryCollator();
+    // Collator methods are synchronized, so each thread builds keys with its own clone
+    private static final ThreadLocal<Collator> COLLATORS =
+            ThreadLocal.withInitial(() -> (Collator) PROTOTYPE.clone());
+
+    private TextCollation() {
+    }
+
+    // Null for a null text, so callers can keep sorting nulls last
+    static CollationKey key(String text) {
+        return COLLATORS.get().getCollationKey(text);
+    }
+
+    private static Collator primaryCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        return collator;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.booknest.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class Tokenizer {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private Tokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> tokenize(String text) {
+        return Arrays.stream(SEPARATORS.split(normalize(text)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public static List<String> words(String text) {
+        return Arrays.stream(SEPARATORS.split(normalize(text)))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    public static Set<String> isbnTokens(String isbn) {
+        String compact = SEPARATORS.matcher(normalize(isbn)).replaceAll("");
+        return compact.isEmpty() ? Set.of() : Set.of(compact);
+    }
+}
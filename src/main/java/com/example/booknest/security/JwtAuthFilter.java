@@ -1,5 +1,7 @@
 package com.example.booknest.security;
 
+import com.example.booknest.metrics.ApplicationMetrics;
+import com.example.booknest.model.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,8 +12,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,7 +22,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthFilter extends OncePerRequestFilter {
     private static final String TOKEN_PREFIX = "Bearer ";
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ApplicationMetrics applicationMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -30,17 +32,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getToken(request);
 
-        if (token != null && jwtUtil.isValidToken(token)) {
-            String username = jwtUtil.getUsername(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (token != null) {
+            applicationMetrics.timeJwtAuthentication(() -> authenticate(token));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        String username = jwtUtil.verify(token).getSubject();
+        User user;
+        try {
+            user = userPrincipalCache.getPrincipal(username);
+        } catch (UsernameNotFoundException e) {
+            // The token outlived its user, so the request stays unauthenticated
+            return;
+        }
+        if (user.isEnabled()) {
             Authentication auth = new UsernamePasswordAuthenticationToken(
-                    userDetails,
+                    user,
                     null,
-                    userDetails.getAuthorities());
+                    user.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
-
-        filterChain.doFilter(request, response);
     }
 
     private String getToken(HttpServletRequest request) {
@@ -1,25 +1,44 @@
 package com.example.booknest.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cglib.core.internal.Function;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
     private final SecretKey secret;
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+    private final long expiration;
 
-    public JwtUtil(@Value("${jwt.secret}") String secretString) {
+    public JwtUtil(@Value("${jwt.secret}") String secretString,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.cache.maximum-size}") long cacheMaximumSize) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        this.expiration = expiration;
+        parser = Jwts.parser()
+                .verifyWith(secret)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     public String generateToken(String username) {
@@ -31,29 +50,58 @@ public class JwtUtil {
                 .compact();
     }
 
+    public Claims verify(String token) {
+        return verifiedTokens.get(digest(token), key -> parseClaims(token));
+    }
+
     public boolean isValidToken(String token) {
-        try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secret)
-                    .build()
-                    .parseSignedClaims(token);
+        return verify(token) != null;
+    }
 
-            return !claimsJws.getPayload().getExpiration().before(new Date());
+    public String getUsername(String token) {
+        return verify(token).getSubject();
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                throw new JwtException("JWT token has no expiration");
+            }
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Expired or invalid JWT token");
         }
     }
 
-    public String getUsername(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
     }
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claimsResolver.apply(claims);
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Duration timeToLive = Duration.between(
+                    Instant.now(), claims.getExpiration().toInstant());
+            return Math.max(0, timeToLive.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims,
+                                      long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,103 @@
+package com.example.booknest.security;
+
+import com.example.booknest.model.Role;
+import com.example.booknest.model.User;
+import com.example.booknest.transaction.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheInvalidator implements PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRecreateEventListener, PostCollectionRemoveEventListener {
+    private static final String EMAIL = "email";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserPrincipalCache userPrincipalCache;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User user && event.getOldState() != null) {
+            Object previousEmail =
+                    event.getOldState()[event.getPersister().getPropertyIndex(EMAIL)];
+            if (previousEmail instanceof String email && !email.equals(user.getEmail())) {
+                evictAfterCommit(email);
+            }
+        }
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onCollectionChange(AbstractCollectionEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof User user) {
+            evictAfterCommit(user.getEmail());
+        }
+    }
+
+    private void onChange(Object entity) {
+        if (entity instanceof User user) {
+            evictAfterCommit(user.getEmail());
+        } else if (entity instanceof Role) {
+            TransactionCallbacks.afterCommit(userPrincipalCache::evictAll);
+        }
+    }
+
+    private void evictAfterCommit(String email) {
+        TransactionCallbacks.afterCommit(() -> userPrincipalCache.evict(email));
+    }
+}
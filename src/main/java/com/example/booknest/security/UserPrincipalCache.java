@@ -0,0 +1,45 @@
+package com.example.booknest.security;
+
+import com.example.booknest.model.User;
+import com.example.booknest.repository.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserPrincipalCache {
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> snapshots;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${principal.cache.ttl}") Duration ttl,
+                              @Value("${principal.cache.maximum-size}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public User getPrincipal(String email) {
+        return snapshots.get(email, this::loadSnapshot).toPrincipal();
+    }
+
+    public void evict(String email) {
+        snapshots.invalidate(email);
+    }
+
+    public void evictAll() {
+        snapshots.invalidateAll();
+    }
+
+    private UserSnapshot loadSnapshot(String email) {
+        return userRepository.findByEmail(email)
+                .map(UserSnapshot::of)
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        "Can't find user by email: " + email));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.booknest.security;
+
+import com.example.booknest.model.Role;
+import com.example.booknest.model.User;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record UserSnapshot(
+        Long id,
+        String email,
+        Set<Role.RoleName> roleNames,
+        boolean enabled) {
+    public UserSnapshot {
+        roleNames = Set.copyOf(roleNames);
+    }
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toSet()),
+                user.isEnabled());
+    }
+
+    public User toPrincipal() {
+        return new User()
+                .setId(id)
+                .setEmail(email)
+                .setRoles(roleNames.stream()
+                        .map(UserSnapshot::toRole)
+                        .collect(Collectors.toSet()))
+                .setDeleted(!enabled);
+    }
+
+    private static Role toRole(Role.RoleName roleName) {
+        Role role = new Role();
+        role.setName(roleName);
+        return role;
+    }
+}
@@ -4,7 +4,13 @@ import com.example.booknest.dto.book.BookDto;
 import com.example.booknest.dto.book.BookDtoWithoutCategoryIds;
 import com.example.booknest.dto.book.BookSearchParametersDto;
 import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.dto.facet.BookFacetSearchParametersDto;
+import com.example.booknest.dto.facet.BookFacetSearchResultDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import com.example.booknest.search.CategoryMatch;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
 
 public interface BookService {
@@ -12,13 +18,34 @@ public interface BookService {
 
     BookDto findById(Long bookId);
 
+    String getEntityTag(Long bookId);
+
+    String getPageEntityTag(Pageable pageable);
+
+    String getCategoryPageEntityTag(Long categoryId, Pageable pageable);
+
     List<BookDto> findAll(Pageable pageable);
 
     List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId, Pageable pageable);
 
+    List<BookDto> findAllByCategoryIds(
+            Set<Long> categoryIds, CategoryMatch match, Pageable pageable);
+
+    CursorPageDto<BookDto> findAllByCursor(String cursor, int size);
+
+    CursorPageDto<BookDtoWithoutCategoryIds> findAllByCategoryIdAndCursor(
+            Long categoryId, String cursor, int size);
+
     BookDto updateById(Long bookId, CreateBookRequestDto bookDto);
 
     void deleteById(Long bookId);
 
     List<BookDto> searchByParameters(BookSearchParametersDto paramsDto, Pageable pageable);
+
+    List<BookDto> fuzzySearch(BookSearchParametersDto paramsDto, Pageable pageable);
+
+    BookFacetSearchResultDto searchWithFacets(
+            BookFacetSearchParametersDto paramsDto, Pageable pageable);
+
+    List<BookSuggestionDto> suggest(String prefix, int limit);
 }
@@ -4,36 +4,63 @@ import com.example.booknest.dto.book.BookDto;
 import com.example.booknest.dto.book.BookDtoWithoutCategoryIds;
 import com.example.booknest.dto.book.BookSearchParametersDto;
 import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.dto.facet.BookFacetSearchParametersDto;
+import com.example.booknest.dto.facet.BookFacetSearchResultDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
 import com.example.booknest.exception.EntityNotFoundException;
 import com.example.booknest.mapper.BookMapper;
 import com.example.booknest.model.Book;
 import com.example.booknest.model.Category;
+import com.example.booknest.repository.EntityVersion;
+import com.example.booknest.repository.book.BookCategoryLink;
 import com.example.booknest.repository.book.BookRepository;
-import com.example.booknest.repository.book.BookSpecificationBuilder;
 import com.example.booknest.repository.category.CategoryRepository;
+import com.example.booknest.search.BookSearchEngine;
+import com.example.booknest.search.BookSuggester;
+import com.example.booknest.search.CategoryBookIndex;
+import com.example.booknest.search.CategoryMatch;
+import com.example.booknest.service.etag.EntityTags;
+import com.example.booknest.service.etag.EntityVersionCache;
+import com.example.booknest.service.pagination.CursorCodec;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("booknest.service")
 @Transactional
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
+    private static final String BOOK_ENTITY_NAME = "book";
+    private static final String CATEGORY_BOOKS_ENTITY_NAME = "category-books-";
+
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
-    private final BookSpecificationBuilder bookSpecificationBuilder;
     private final CategoryRepository categoryRepository;
+    private final BookSearchEngine bookSearchEngine;
+    private final EntityVersionCache entityVersionCache;
+    private final CategoryBookIndex categoryBookIndex;
+    private final BookSuggester bookSuggester;
 
     @Override
     public BookDto save(CreateBookRequestDto bookDto) {
         Book bookFromDto = bookMapper.toEntity(bookDto);
         bookFromDto.setCategories(getCategoriesFromDto(bookDto));
-        return bookMapper.toDto(bookRepository.save(bookFromDto));
+        BookDto savedBook = bookMapper.toDto(bookRepository.save(bookFromDto));
+        bookSearchEngine.index(savedBook);
+        categoryBookIndex.index(savedBook);
+        bookSuggester.index(savedBook);
+        return savedBook;
     }
 
     @Override
@@ -42,26 +69,87 @@ public class BookServiceImpl implements BookService {
         return bookMapper.toDto(bookFromDb);
     }
 
+    @Override
+    public String getEntityTag(Long bookId) {
+        return entityVersionCache.getVersion(Book.class, bookId, bookRepository::findVersionById)
+                .map(version -> EntityTags.of(BOOK_ENTITY_NAME, bookId, version))
+                .orElse(null);
+    }
+
+    @Override
+    public String getPageEntityTag(Pageable pageable) {
+        return EntityTags.of(BOOK_ENTITY_NAME, bookRepository.findAllVersions(pageable));
+    }
+
+    @Override
+    public String getCategoryPageEntityTag(Long categoryId, Pageable pageable) {
+        List<EntityVersion> versions = categoryBookIndex
+                .findBookIds(List.of(categoryId), CategoryMatch.ALL, pageable)
+                .map(bookIds -> inOrder(bookIds,
+                        bookRepository.findAllVersionsByIdIn(bookIds), EntityVersion::id))
+                .orElseGet(() -> bookRepository.findAllVersionsByCategoryId(
+                        categoryId, pageable));
+        return EntityTags.of(CATEGORY_BOOKS_ENTITY_NAME + categoryId, versions);
+    }
+
     @Override
     public List<BookDto> findAll(Pageable pageable) {
-        return bookMapper.toDtoList(
+        return toDtoListWithCategoryIds(
                 bookRepository.findAll(pageable).toList());
     }
 
     @Override
     public List<BookDtoWithoutCategoryIds> findAllByCategoryId(
             Long categoryId, Pageable pageable) {
-        return bookRepository.findAllByCategoryId(categoryId, pageable).stream()
+        return categoryBookIndex.findBookIds(List.of(categoryId), CategoryMatch.ALL, pageable)
+                .map(this::findAllByIdInOrder)
+                .orElseGet(() -> bookRepository.findAllByCategoryId(categoryId, pageable))
+                .stream()
                 .map(bookMapper::toDtoWithoutCategories)
                 .toList();
     }
 
+    @Override
+    public List<BookDto> findAllByCategoryIds(
+            Set<Long> categoryIds, CategoryMatch match, Pageable pageable) {
+        return toDtoListWithCategoryIds(categoryBookIndex
+                .findBookIds(categoryIds, match, pageable)
+                .map(this::findAllByIdInOrder)
+                .orElseGet(() -> bookRepository.findAllByCategoryIdsMatching(categoryIds,
+                        match == CategoryMatch.ALL ? categoryIds.size() : 1, pageable)));
+    }
+
+    @Override
+    public CursorPageDto<BookDto> findAllByCursor(String cursor, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<Book> books = cursor == null
+                ? bookRepository.findAllOrderByTitleAndId(limit)
+                : findAllAfter(TitleCursor.decode(cursor), limit);
+        return CursorCodec.toPage(books, size, TitleCursor::encode,
+                this::toDtoListWithCategoryIds);
+    }
+
+    @Override
+    public CursorPageDto<BookDtoWithoutCategoryIds> findAllByCategoryIdAndCursor(
+            Long categoryId, String cursor, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<Book> books = cursor == null
+                ? bookRepository.findAllByCategoryIdOrderByTitleAndId(categoryId, limit)
+                : findAllByCategoryIdAfter(categoryId, TitleCursor.decode(cursor), limit);
+        return CursorCodec.toPage(books, size, TitleCursor::encode,
+                page -> page.stream().map(bookMapper::toDtoWithoutCategories).toList());
+    }
+
     @Override
     public BookDto updateById(Long bookId, CreateBookRequestDto bookDto) {
         Book bookFromDb = findBookById(bookId);
         bookFromDb.setCategories(getCategoriesFromDto(bookDto));
         bookMapper.updateEntityFromDto(bookDto, bookFromDb);
-        return bookMapper.toDto(bookRepository.save(bookFromDb));
+        BookDto updatedBook = bookMapper.toDto(bookRepository.save(bookFromDb));
+        bookSearchEngine.index(updatedBook);
+        categoryBookIndex.index(updatedBook);
+        bookSuggester.index(updatedBook);
+        return updatedBook;
     }
 
     @Override
@@ -69,12 +157,61 @@ public class BookServiceImpl implements BookService {
         bookRepository.findById(bookId).orElseThrow(
                 () -> new EntityNotFoundException("Can't delete book by id: " + bookId));
         bookRepository.deleteById(bookId);
+        bookSearchEngine.remove(bookId);
+        categoryBookIndex.remove(bookId);
+        bookSuggester.remove(bookId);
     }
 
     @Override
     public List<BookDto> searchByParameters(BookSearchParametersDto paramsDto, Pageable pageable) {
-        Specification<Book> bookSpecification = bookSpecificationBuilder.build(paramsDto);
-        return bookMapper.toDtoList(bookRepository.findAll(bookSpecification, pageable).toList());
+        return bookSearchEngine.search(paramsDto, pageable);
+    }
+
+    @Override
+    public List<BookDto> fuzzySearch(BookSearchParametersDto paramsDto, Pageable pageable) {
+        return bookSearchEngine.fuzzySearch(paramsDto, pageable);
+    }
+
+    @Override
+    public BookFacetSearchResultDto searchWithFacets(
+            BookFacetSearchParametersDto paramsDto, Pageable pageable) {
+        return bookSearchEngine.facetedSearch(paramsDto, pageable);
+    }
+
+    @Override
+    public List<BookSuggestionDto> suggest(String prefix, int limit) {
+        return bookSuggester.suggest(prefix, limit);
+    }
+
+    private List<BookDto> toDtoListWithCategoryIds(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        List<Long> bookIds = books.stream()
+                .map(Book::getId)
+                .toList();
+        Map<Long, Set<Long>> categoryIdsByBookId = bookRepository
+                .findCategoryLinksByBookIdIn(bookIds).stream()
+                .collect(Collectors.groupingBy(BookCategoryLink::bookId,
+                        Collectors.mapping(BookCategoryLink::categoryId, Collectors.toSet())));
+        return books.stream()
+                .map(book -> bookMapper.toDtoWithCategoryIds(book,
+                        categoryIdsByBookId.getOrDefault(book.getId(), Set.of())))
+                .toList();
+    }
+
+    private List<Book> findAllByIdInOrder(List<Long> bookIds) {
+        return inOrder(bookIds, bookRepository.findAllById(bookIds), Book::getId);
+    }
+
+    private List<Book> findAllAfter(TitleCursor cursor, Pageable limit) {
+        return bookRepository.findAllAfterTitleAndId(cursor.title(), cursor.id(), limit);
+    }
+
+    private List<Book> findAllByCategoryIdAfter(
+            Long categoryId, TitleCursor cursor, Pageable limit) {
+        return bookRepository.findAllByCategoryIdAfterTitleAndId(
+                categoryId, cursor.title(), cursor.id(), limit);
     }
 
     private Book findBookById(Long bookId) {
@@ -89,4 +226,24 @@ public class BookServiceImpl implements BookService {
                                 "Can't find category by id: " + categoryId)))
                 .collect(Collectors.toSet());
     }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> items, Function<T, Long> idOf) {
+        Map<Long, T> itemsById = items.stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private record TitleCursor(String title, Long id) {
+        static TitleCursor decode(String cursor) {
+            return CursorCodec.decode(cursor, 2,
+                    keys -> new TitleCursor(keys[0], Long.valueOf(keys[1])));
+        }
+
+        static String encode(Book book) {
+            return CursorCodec.encode(book.getTitle(), String.valueOf(book.getId()));
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.booknest.service.bookexport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookExportService {
+    void exportBooks(OutputStream outputStream, BookExportFormat format) throws IOException;
+}
@@ -0,0 +1,66 @@
+package com.example.booknest.service.bookexport;
+
+import com.example.booknest.mapper.BookMapper;
+import com.example.booknest.model.Book;
+import com.example.booknest.repository.book.BookCategoryLink;
+import com.example.booknest.repository.book.BookExportRepository;
+import com.example.booknest.repository.book.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BookExportServiceImpl implements BookExportService {
+    private final BookExportRepository bookExportRepository;
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final ObjectMapper objectMapper;
+    @Value("${book-export.chunk-size}")
+    private int chunkSize;
+
+    @Override
+    public void exportBooks(OutputStream outputStream, BookExportFormat format)
+            throws IOException {
+        BookRecordWriter writer = format == BookExportFormat.CSV
+                ? new CsvBookWriter(outputStream)
+                : new NdjsonBookWriter(outputStream, objectMapper.writer());
+        try (Stream<Book> books = bookExportRepository.streamAllOrderById()) {
+            List<Book> chunk = new ArrayList<>(chunkSize);
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, writer);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, writer);
+        }
+        writer.flush();
+    }
+
+    private void writeChunk(List<Book> chunk, BookRecordWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<Long>> categoryIdsByBookId = bookRepository
+                .findCategoryLinksByBookIdIn(chunk.stream().map(Book::getId).toList()).stream()
+                .collect(Collectors.groupingBy(BookCategoryLink::bookId,
+                        Collectors.mapping(BookCategoryLink::categoryId, Collectors.toSet())));
+        for (Book book : chunk) {
+            writer.write(bookMapper.toDtoWithCategoryIds(book,
+                    categoryIdsByBookId.getOrDefault(book.getId(), Set.of())));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.booknest.service.bookexport;
+
+import com.example.booknest.dto.book.BookDto;
+import java.io.IOException;
+
+interface BookRecordWriter {
+    void write(BookDto book) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,61 @@
+package com.example.booknest.service.bookexport;
+
+import com.example.booknest.dto.book.BookDto;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+class CsvBookWriter implements BookRecordWriter {
+    private static final String HEADER =
+            "id,title,author,isbn,price,description,coverImage,categoryIds";
+    private static final String CATEGORY_ID_SEPARATOR = ";";
+
+    private final Writer writer;
+
+    CsvBookWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+        writer.write(String.valueOf(book.getId()));
+        writeField(book.getTitle());
+        writeField(book.getAuthor());
+        writeField(book.getIsbn());
+        writeField(book.getPrice() == null ? null : book.getPrice().toPlainString());
+        writeField(book.getDescription());
+        writeField(book.getCoverImage());
+        writeField(book.getCategoryIds().stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(CATEGORY_ID_SEPARATOR)));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
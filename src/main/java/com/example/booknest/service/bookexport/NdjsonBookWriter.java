@@ -0,0 +1,28 @@
+package com.example.booknest.service.bookexport;
+
+import com.example.booknest.dto.book.BookDto;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonBookWriter implements BookRecordWriter {
+    private final OutputStream outputStream;
+    private final ObjectWriter bookWriter;
+
+    NdjsonBookWriter(OutputStream outputStream, ObjectWriter bookWriter) {
+        this.outputStream = new BufferedOutputStream(outputStream);
+        this.bookWriter = bookWriter.forType(BookDto.class);
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+        outputStream.write(bookWriter.writeValueAsBytes(book));
+        outputStream.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.booknest.service.bookimport;
+
+import com.example.booknest.dto.bookimport.BookImportResultDto;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+
+public interface BookImportService {
+    BookImportResultDto importBooks(InputStream inputStream, MediaType contentType);
+}
@@ -0,0 +1,165 @@
+package com.example.booknest.service.bookimport;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.dto.bookimport.BookImportErrorDto;
+import com.example.booknest.dto.bookimport.BookImportResultDto;
+import com.example.booknest.model.Category;
+import com.example.booknest.repository.category.CategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private final BookImportWriter bookImportWriter;
+    private final CategoryRepository categoryRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public BookImportServiceImpl(
+            BookImportWriter bookImportWriter,
+            CategoryRepository categoryRepository,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${book-import.batch-size}") int batchSize,
+            @Value("${book-import.max-reported-errors}") int maxReportedErrors) {
+        this.bookImportWriter = bookImportWriter;
+        this.categoryRepository = categoryRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public BookImportResultDto importBooks(InputStream inputStream, MediaType contentType) {
+        Charset charset = Optional.ofNullable(contentType.getCharset())
+                .orElse(StandardCharsets.UTF_8);
+        ImportProgress progress = new ImportProgress();
+        try (BookRowReader rows = openReader(new InputStreamReader(inputStream, charset),
+                contentType)) {
+            List<BookRow> batch = new ArrayList<>(batchSize);
+            for (BookRow row = rows.next(); row != null; row = rows.next()) {
+                progress.processed++;
+                String error = row.error() != null ? row.error() : validate(row.book());
+                if (error != null) {
+                    progress.fail(row, error);
+                } else {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize) {
+                    writeBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            writeBatch(batch, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return progress.toResult();
+    }
+
+    private BookRowReader openReader(Reader reader, MediaType contentType) throws IOException {
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonBookRowReader(reader, objectMapper.reader());
+        }
+        return new CsvBookRowReader(reader);
+    }
+
+    private String validate(CreateBookRequestDto book) {
+        Set<ConstraintViolation<CreateBookRequestDto>> violations = validator.validate(book);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void writeBatch(List<BookRow> batch, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<Long> categoryIds = categoryRepository.findAllById(batch.stream()
+                        .flatMap(row -> row.book().categoryIds().stream())
+                        .collect(Collectors.toSet())).stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+
+        List<BookRow> rows = new ArrayList<>(batch.size());
+        for (BookRow row : batch) {
+            Optional<Long> missingCategoryId = row.book().categoryIds().stream()
+                    .filter(categoryId -> !categoryIds.contains(categoryId))
+                    .findFirst();
+            if (missingCategoryId.isPresent()) {
+                progress.fail(row, "Can't find category by id: " + missingCategoryId.get());
+                continue;
+            }
+            Long firstLine = progress.linesByIsbn.putIfAbsent(row.isbn(), row.line());
+            if (firstLine != null) {
+                progress.fail(row, "Duplicate isbn, already imported from line " + firstLine);
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            bookImportWriter.write(rows.stream().map(BookRow::book).toList());
+            progress.imported += rows.size();
+        } catch (DataAccessException e) {
+            // Retry row by row so only the rows the database rejects are reported
+            rows.forEach(row -> writeRow(row, progress));
+        }
+    }
+
+    private void writeRow(BookRow row, ImportProgress progress) {
+        try {
+            bookImportWriter.write(List.of(row.book()));
+            progress.imported++;
+        } catch (DataAccessException e) {
+            progress.fail(row, "Can't save book: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private class ImportProgress {
+        private final List<BookImportErrorDto> errors = new ArrayList<>();
+        private final Map<String, Long> linesByIsbn = new HashMap<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        void fail(BookRow row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new BookImportErrorDto(row.line(), row.isbn(), message));
+            }
+        }
+
+        BookImportResultDto toResult() {
+            return new BookImportResultDto(processed, imported, failed, errors);
+        }
+    }
+}
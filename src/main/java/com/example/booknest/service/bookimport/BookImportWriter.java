@@ -0,0 +1,106 @@
+package com.example.booknest.service.bookimport;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.mapper.BookMapper;
+import com.example.booknest.model.Book;
+import com.example.booknest.repository.book.BookCategoryLink;
+import com.example.booknest.search.BookSearchEngine;
+import com.example.booknest.search.BookSuggester;
+import com.example.booknest.search.CategoryBookIndex;
+import com.example.booknest.service.etag.EntityVersionCache;
+import com.example.booknest.transaction.TransactionCallbacks;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class BookImportWriter {
+    private static final String UPSERT_BOOK = """
+            INSERT INTO books (title, author, isbn, price, description, cover_image)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE title = VALUES(title), author = VALUES(author),
+                price = VALUES(price), description = VALUES(description),
+                cover_image = VALUES(cover_image), is_deleted = FALSE,
+                version = version + 1""";
+    private static final String SELECT_BOOK_IDS =
+            "SELECT id, isbn FROM books WHERE isbn IN (:isbns)";
+    private static final String DELETE_CATEGORY_LINKS =
+            "DELETE FROM books_categories WHERE book_id IN (:bookIds)";
+    private static final String INSERT_CATEGORY_LINK =
+            "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)";
+    private static final String BOOK_CATEGORIES_ROLE = Book.class.getName() + ".categories";
+    private static final String BOOKS_BY_CATEGORY_REGION = "books-by-category";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final BookSearchEngine bookSearchEngine;
+    private final CategoryBookIndex categoryBookIndex;
+    private final BookSuggester bookSuggester;
+    private final BookMapper bookMapper;
+    private final EntityVersionCache entityVersionCache;
+
+    public void write(Collection<CreateBookRequestDto> books) {
+        jdbcTemplate.batchUpdate(UPSERT_BOOK, books, books.size(), (statement, book) -> {
+            statement.setString(1, book.title());
+            statement.setString(2, book.author());
+            statement.setString(3, book.isbn());
+            statement.setBigDecimal(4, book.price());
+            statement.setString(5, book.description());
+            statement.setString(6, book.coverImage());
+        });
+        Map<String, Long> bookIdsByIsbn = findBookIdsByIsbn(books);
+        namedParameterJdbcTemplate.update(DELETE_CATEGORY_LINKS,
+                Map.of("bookIds", bookIdsByIsbn.values()));
+        List<BookCategoryLink> links = books.stream()
+                .flatMap(book -> book.categoryIds().stream().map(categoryId ->
+                        new BookCategoryLink(bookIdsByIsbn.get(book.isbn()), categoryId)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_LINK, links, links.size(), (statement, link) -> {
+            statement.setLong(1, link.bookId());
+            statement.setLong(2, link.categoryId());
+        });
+
+        books.stream()
+                .map(book -> bookMapper.toDtoWithCategoryIds(
+                        bookMapper.toEntity(book).setId(bookIdsByIsbn.get(book.isbn())),
+                        book.categoryIds()))
+                .forEach(bookDto -> {
+                    bookSearchEngine.index(bookDto);
+                    categoryBookIndex.index(bookDto);
+                    bookSuggester.index(bookDto);
+                });
+        TransactionCallbacks.afterCommit(() -> evictCachedBooks(bookIdsByIsbn.values()));
+    }
+
+    private Map<String, Long> findBookIdsByIsbn(Collection<CreateBookRequestDto> books) {
+        Map<String, Long> bookIdsByIsbn = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_BOOK_IDS,
+                Map.of("isbns", books.stream().map(CreateBookRequestDto::isbn).toList()),
+                resultSet -> {
+                    bookIdsByIsbn.put(resultSet.getString("isbn"), resultSet.getLong("id"));
+                });
+        return bookIdsByIsbn;
+    }
+
+    private void evictCachedBooks(Collection<Long> bookIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        bookIds.forEach(bookId -> {
+            cache.evictEntityData(Book.class, bookId);
+            cache.evictCollectionData(BOOK_CATEGORIES_ROLE, bookId);
+            entityVersionCache.evict(Book.class, bookId);
+        });
+        cache.evictQueryRegion(BOOKS_BY_CATEGORY_REGION);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.booknest.service.bookimport;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+
+record BookRow(long line, String isbn, CreateBookRequestDto book, String error) {
+    static BookRow valid(long line, CreateBookRequestDto book) {
+        return new BookRow(line, book.isbn(), book, null);
+    }
+
+    static BookRow invalid(long line, String isbn, String error) {
+        return new BookRow(line, isbn, null, error);
+    }
+}
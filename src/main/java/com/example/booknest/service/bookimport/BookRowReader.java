@@ -0,0 +1,8 @@
+package com.example.booknest.service.bookimport;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+interface BookRowReader extends Closeable {
+    BookRow next() throws IOException;
+}
@@ -0,0 +1,165 @@
+package com.example.booknest.service.bookimport;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.exception.BookImportException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+class CsvBookRowReader implements BookRowReader {
+    private static final List<String> COLUMNS = List.of(
+            "title", "author", "isbn", "price", "description", "coverImage", "categoryIds");
+    private static final String CATEGORY_ID_SEPARATOR = ";";
+
+    private final BufferedReader reader;
+    private final int[] columnIndexes;
+    private long line;
+    private long recordLine;
+    private boolean unterminatedQuote;
+
+    CsvBookRowReader(Reader reader) throws IOException {
+        this.reader = new BufferedReader(reader);
+        this.columnIndexes = readHeader();
+    }
+
+    @Override
+    public BookRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+        } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+        if (fields == null) {
+            return null;
+        }
+
+        String isbn = field(fields, "isbn");
+        if (unterminatedQuote) {
+            return BookRow.invalid(recordLine, isbn, "Unterminated quoted field");
+        }
+        try {
+            return BookRow.valid(recordLine, new CreateBookRequestDto(
+                    field(fields, "title"),
+                    field(fields, "author"),
+                    isbn,
+                    toPrice(field(fields, "price")),
+                    field(fields, "description"),
+                    field(fields, "coverImage"),
+                    toCategoryIds(field(fields, "categoryIds"))));
+        } catch (NumberFormatException e) {
+            return BookRow.invalid(recordLine, isbn, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int[] readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BookImportException("CSV file is empty, expected a header row");
+        }
+        int[] indexes = new int[COLUMNS.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = indexOfIgnoreCase(header, COLUMNS.get(i));
+            if (indexes[i] < 0) {
+                throw new BookImportException(
+                        "CSV header must contain the columns: " + String.join(",", COLUMNS));
+            }
+        }
+        return indexes;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = ++line;
+        unterminatedQuote = false;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminatedQuote = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        int index = columnIndexes[COLUMNS.indexOf(column)];
+        if (index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index).trim();
+    }
+
+    private static int indexOfIgnoreCase(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static BigDecimal toPrice(String price) {
+        if (price == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(price);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Invalid price: " + price);
+        }
+    }
+
+    private static Set<Long> toCategoryIds(String categoryIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (categoryIds == null) {
+            return ids;
+        }
+        for (String id : categoryIds.split(CATEGORY_ID_SEPARATOR)) {
+            if (!id.isBlank()) {
+                try {
+                    ids.add(Long.valueOf(id.trim()));
+                } catch (NumberFormatException e) {
+                    throw new NumberFormatException("Invalid category id: " + id.trim());
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.booknest.service.bookimport;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+class NdjsonBookRowReader implements BookRowReader {
+    private final BufferedReader reader;
+    private final ObjectReader bookReader;
+    private long line;
+
+    NdjsonBookRowReader(Reader reader, ObjectReader bookReader) {
+        this.reader = new BufferedReader(reader);
+        this.bookReader = bookReader.forType(CreateBookRequestDto.class);
+    }
+
+    @Override
+    public BookRow next() throws IOException {
+        String json;
+        do {
+            json = reader.readLine();
+            line++;
+        } while (json != null && json.isBlank());
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            CreateBookRequestDto book = bookReader.readValue(json);
+            return book == null
+                    ? BookRow.invalid(line, null, "Expected a JSON object")
+                    : BookRow.valid(line, book);
+        } catch (JsonProcessingException e) {
+            return BookRow.invalid(line, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
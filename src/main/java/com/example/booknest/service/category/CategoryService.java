@@ -1,5 +1,6 @@
 package com.example.booknest.service.category;
 
+import com.example.booknest.dto.category.CategoryBookCountDto;
 import com.example.booknest.dto.category.CategoryDto;
 import com.example.booknest.dto.category.CreateCategoryRequestDto;
 import java.util.List;
@@ -10,8 +11,14 @@ public interface CategoryService {
 
     CategoryDto findById(Long categoryId);
 
+    String getEntityTag(Long categoryId);
+
+    String getPageEntityTag(Pageable pageable);
+
     List<CategoryDto> findAll(Pageable pageable);
 
+    List<CategoryBookCountDto> getBookCounts();
+
     CategoryDto updateById(Long categoryId, CreateCategoryRequestDto categoryDto);
 
     void deleteById(Long categoryId);
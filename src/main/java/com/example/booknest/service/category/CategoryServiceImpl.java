@@ -1,21 +1,43 @@
 package com.example.booknest.service.category;
 
+import com.example.booknest.dto.category.CategoryBookCountDto;
 import com.example.booknest.dto.category.CategoryDto;
 import com.example.booknest.dto.category.CreateCategoryRequestDto;
 import com.example.booknest.exception.EntityNotFoundException;
 import com.example.booknest.mapper.CategoryMapper;
+import com.example.booknest.model.Book;
 import com.example.booknest.model.Category;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.book.CategoryBookCount;
 import com.example.booknest.repository.category.CategoryRepository;
+import com.example.booknest.search.CategoryBookIndex;
+import com.example.booknest.service.etag.EntityTags;
+import com.example.booknest.service.etag.EntityVersionCache;
+import com.example.booknest.transaction.TransactionCallbacks;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
+    private static final String CATEGORY_ENTITY_NAME = "category";
+    private static final String BOOK_CATEGORIES_ROLE = Book.class.getName() + ".categories";
+
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final EntityVersionCache entityVersionCache;
+    private final BookRepository bookRepository;
+    private final CategoryBookIndex categoryBookIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public CategoryDto save(CreateCategoryRequestDto categoryDto) {
@@ -29,12 +51,37 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryMapper.toDto(categoryFromDb);
     }
 
+    @Override
+    public String getEntityTag(Long categoryId) {
+        return entityVersionCache.getVersion(Category.class, categoryId,
+                        categoryRepository::findVersionById)
+                .map(version -> EntityTags.of(CATEGORY_ENTITY_NAME, categoryId, version))
+                .orElse(null);
+    }
+
+    @Override
+    public String getPageEntityTag(Pageable pageable) {
+        return EntityTags.of(CATEGORY_ENTITY_NAME, categoryRepository.findAllVersions(pageable));
+    }
+
     @Override
     public List<CategoryDto> findAll(Pageable pageable) {
         return categoryMapper.toDtoList(
                 categoryRepository.findAll(pageable).toList());
     }
 
+    @Override
+    public List<CategoryBookCountDto> getBookCounts() {
+        Map<Long, Long> bookCounts = categoryBookIndex.countBooksByCategory()
+                .orElseGet(() -> bookRepository.countBooksByCategory().stream()
+                        .collect(Collectors.toMap(CategoryBookCount::categoryId,
+                                CategoryBookCount::bookCount)));
+        return bookCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(count -> new CategoryBookCountDto(count.getKey(), count.getValue()))
+                .toList();
+    }
+
     @Override
     public CategoryDto updateById(Long categoryId, CreateCategoryRequestDto categoryDto) {
         Category categoryFromDb = findCategoryById(categoryId);
@@ -43,10 +90,26 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long categoryId) {
         categoryRepository.findById(categoryId).orElseThrow(
                 () -> new EntityNotFoundException("Can't delete category by id: " + categoryId));
+        // The books lose this category id, so their versions and ETags must change too
+        List<Long> bookIds = bookRepository.findAllIdsByCategoryId(categoryId);
+        if (!bookIds.isEmpty()) {
+            bookRepository.incrementVersions(bookIds);
+            TransactionCallbacks.afterCommit(() -> evictCachedBooks(bookIds));
+        }
         categoryRepository.deleteById(categoryId);
+        categoryBookIndex.removeCategory(categoryId);
+    }
+
+    private void evictCachedBooks(Collection<Long> bookIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        bookIds.forEach(bookId -> {
+            cache.evictCollectionData(BOOK_CATEGORIES_ROLE, bookId);
+            entityVersionCache.evict(Book.class, bookId);
+        });
     }
 
     private Category findCategoryById(Long categoryId) {
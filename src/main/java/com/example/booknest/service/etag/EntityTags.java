@@ -0,0 +1,23 @@
+package com.example.booknest.service.etag;
+
+import com.example.booknest.repository.EntityVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.util.DigestUtils;
+
+public final class EntityTags {
+    private EntityTags() {
+    }
+
+    public static String of(String entityName, Long id, Long version) {
+        return "\"" + entityName + "-" + id + "-v" + version + "\"";
+    }
+
+    public static String of(String entityName, List<EntityVersion> versions) {
+        String content = versions.stream()
+                .map(version -> version.id() + ":" + version.version())
+                .collect(Collectors.joining(",", entityName + "[", "]"));
+        return "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.booknest.service.etag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EntityVersionCache {
+    private final Cache<VersionKey, Long> versions;
+
+    public EntityVersionCache(@Value("${entity-version.cache.ttl}") Duration ttl,
+                              @Value("${entity-version.cache.maximum-size}") long maximumSize) {
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public Optional<Long> getVersion(Class<?> entityType, Long id,
+                                     Function<Long, Optional<Long>> loader) {
+        return Optional.ofNullable(versions.get(new VersionKey(entityType, id),
+                key -> loader.apply(key.id()).orElse(null)));
+    }
+
+    public void evict(Class<?> entityType, Long id) {
+        versions.invalidate(new VersionKey(entityType, id));
+    }
+
+    private record VersionKey(Class<?> entityType, Long id) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.booknest.service.etag;
+
+import com.example.booknest.model.Book;
+import com.example.booknest.model.Category;
+import com.example.booknest.transaction.TransactionCallbacks;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+@RequiredArgsConstructor
+public class EntityVersionCacheInvalidator {
+    private final ObjectProvider<EntityVersionCache> entityVersionCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Book book) {
+            evictNowAndAfterCommit(Book.class, book.getId());
+        } else if (entity instanceof Category category) {
+            evictNowAndAfterCommit(Category.class, category.getId());
+        }
+    }
+
+    private void evictNowAndAfterCommit(Class<?> entityType, Long id) {
+        Runnable evict = () -> entityVersionCache.ifAvailable(
+                cache -> cache.evict(entityType, id));
+        evict.run();
+        TransactionCallbacks.afterCommit(evict);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.dto.order.BulkUpdateOrderStatusRequestDto;
+import com.example.booknest.dto.order.BulkUpdateOrderStatusResponseDto;
+
+public interface OrderBulkStatusService {
+    BulkUpdateOrderStatusResponseDto updateOrderStatuses(
+            BulkUpdateOrderStatusRequestDto requestDto);
+}
@@ -0,0 +1,116 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.dto.order.BulkUpdateOrderStatusRequestDto;
+import com.example.booknest.dto.order.BulkUpdateOrderStatusResponseDto;
+import com.example.booknest.dto.order.OrderStatusFilterDto;
+import com.example.booknest.dto.order.OrderStatusUpdateDto;
+import com.example.booknest.exception.OrderProcessingException;
+import com.example.booknest.model.Order;
+import com.example.booknest.outbox.OrderOutbox;
+import com.example.booknest.repository.order.OrderRepository;
+import com.example.booknest.repository.order.OrderStatusRow;
+import com.example.booknest.repository.order.OrderSummaryRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Timed("booknest.service")
+@Transactional
+@RequiredArgsConstructor
+public class OrderBulkStatusServiceImpl implements OrderBulkStatusService {
+    private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderOutbox orderOutbox;
+    private final OrderBulkUpdateProperties properties;
+
+    @Override
+    public BulkUpdateOrderStatusResponseDto updateOrderStatuses(
+            BulkUpdateOrderStatusRequestDto requestDto) {
+        if ((requestDto.updates() == null) == (requestDto.filter() == null)) {
+            throw new OrderProcessingException(
+                    "Provide either a list of order status updates or a filter");
+        }
+        Map<Long, Order.Status> requestedStatuses = new LinkedHashMap<>();
+        List<OrderStatusRow> orders = requestDto.filter() == null
+                ? findStatusRows(requestDto.updates(), requestedStatuses)
+                : findStatusRows(requestDto.filter(), requestedStatuses);
+        boolean truncated = orders.size() > properties.maxOrders();
+        Map<Long, OrderStatusRow> ordersById = orders.stream()
+                .collect(Collectors.toMap(OrderStatusRow::orderId, order -> order));
+
+        Map<Order.Status, List<OrderStatusRow>> ordersByNewStatus =
+                new EnumMap<>(Order.Status.class);
+        List<Long> unchanged = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        List<Long> rejected = new ArrayList<>();
+        requestedStatuses.forEach((orderId, status) -> {
+            OrderStatusRow order = ordersById.get(orderId);
+            if (order == null) {
+                notFound.add(orderId);
+            } else if (order.status() == status) {
+                unchanged.add(orderId);
+            } else if (!OrderStatusTransitions.isAllowed(order.status(), status)) {
+                rejected.add(orderId);
+            } else {
+                ordersByNewStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(order);
+            }
+        });
+
+        List<Long> updated = new ArrayList<>();
+        ordersByNewStatus.forEach((status, ordersToUpdate) -> {
+            for (int from = 0; from < ordersToUpdate.size(); from += properties.batchSize()) {
+                List<OrderStatusRow> batch = ordersToUpdate.subList(
+                        from, Math.min(from + properties.batchSize(), ordersToUpdate.size()));
+                List<Long> orderIds = batch.stream()
+                        .map(OrderStatusRow::orderId)
+                        .toList();
+                orderRepository.updateStatuses(orderIds, status);
+                orderSummaryRepository.updateStatuses(orderIds, status);
+                batch.forEach(order -> orderOutbox.orderStatusChanged(
+                        order.orderId(), order.userId(), order.status(), status));
+                updated.addAll(orderIds);
+            }
+        });
+        return new BulkUpdateOrderStatusResponseDto(
+                updated, unchanged, notFound, rejected, truncated);
+    }
+
+    private List<OrderStatusRow> findStatusRows(List<OrderStatusUpdateDto> updates,
+                                                Map<Long, Order.Status> requestedStatuses) {
+        if (updates.size() > properties.maxOrders()) {
+            throw new OrderProcessingException(
+                    "Unable to update more than " + properties.maxOrders() + " orders at once");
+        }
+        updates.forEach(update -> requestedStatuses.put(update.orderId(), update.status()));
+        List<Long> orderIds = requestedStatuses.keySet().stream()
+                .sorted()
+                .toList();
+        List<OrderStatusRow> orders = new ArrayList<>(orderIds.size());
+        for (int from = 0; from < orderIds.size(); from += properties.batchSize()) {
+            orders.addAll(orderRepository.findStatusRowsByIdIn(orderIds.subList(
+                    from, Math.min(from + properties.batchSize(), orderIds.size()))));
+        }
+        return orders;
+    }
+
+    private List<OrderStatusRow> findStatusRows(OrderStatusFilterDto filter,
+                                                Map<Long, Order.Status> requestedStatuses) {
+        List<OrderStatusRow> orders = orderRepository.findStatusRowsByStatus(
+                filter.currentStatus(), filter.orderedBefore(),
+                PageRequest.ofSize(properties.maxOrders() + 1));
+        // The extra row only tells whether more orders match than one call may update
+        orders.stream()
+                .limit(properties.maxOrders())
+                .forEach(order -> requestedStatuses.put(order.orderId(), filter.status()));
+        return orders;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.booknest.service.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("order.bulk-update")
+public record OrderBulkUpdateProperties(
+        int maxOrders,
+        int batchSize) {
+}
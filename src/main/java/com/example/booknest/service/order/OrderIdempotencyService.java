@@ -0,0 +1,12 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.dto.order.CreateOrderRequestDto;
+import com.example.booknest.dto.order.OrderDto;
+import org.springframework.data.domain.Pageable;
+
+public interface OrderIdempotencyService {
+    OrderDto createOrder(Long userId,
+                         String idempotencyKey,
+                         Pageable pageable,
+                         CreateOrderRequestDto createOrderDto);
+}
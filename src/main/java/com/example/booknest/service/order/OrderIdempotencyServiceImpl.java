@@ -0,0 +1,171 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.dto.order.CreateOrderRequestDto;
+import com.example.booknest.dto.order.OrderDto;
+import com.example.booknest.exception.IdempotencyKeyInProgressException;
+import com.example.booknest.exception.IdempotencyKeyMismatchException;
+import com.example.booknest.model.OrderIdempotencyKey;
+import com.example.booknest.repository.order.OrderIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OrderIdempotencyServiceImpl implements OrderIdempotencyService {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<RequestKey, CompletedOrder> completedOrders;
+    private final ReentrantLock[] stripes;
+    private final Duration retention;
+    private final Duration pendingTimeout;
+
+    public OrderIdempotencyServiceImpl(
+            OrderService orderService,
+            OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+            ObjectMapper objectMapper,
+            @Value("${order.idempotency.cache.maximum-size}") long maximumSize,
+            @Value("${order.idempotency.lock-stripes}") int lockStripes,
+            @Value("${order.idempotency.retention}") Duration retention,
+            @Value("${order.idempotency.pending-timeout}") Duration pendingTimeout) {
+        this.orderService = orderService;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.completedOrders = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maximumSize)
+                .build();
+        this.stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.retention = retention;
+        this.pendingTimeout = pendingTimeout;
+    }
+
+    @Override
+    public OrderDto createOrder(Long userId, String idempotencyKey,
+                                Pageable pageable, CreateOrderRequestDto createOrderDto) {
+        RequestKey requestKey = new RequestKey(userId, idempotencyKey);
+        String requestHash = hash(createOrderDto);
+        CompletedOrder completedOrder = completedOrders.getIfPresent(requestKey);
+        if (completedOrder != null) {
+            return matchingOrder(requestKey, requestHash, completedOrder);
+        }
+
+        ReentrantLock lock = stripeFor(requestKey);
+        lock.lock();
+        try {
+            completedOrder = completedOrders.getIfPresent(requestKey);
+            if (completedOrder == null) {
+                completedOrder = new CompletedOrder(requestHash,
+                        reserveAndSubmitOrder(requestKey, requestHash, pageable, createOrderDto));
+                completedOrders.put(requestKey, completedOrder);
+            }
+            return matchingOrder(requestKey, requestHash, completedOrder);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${order.idempotency.cleanup-interval}",
+            fixedDelayString = "${order.idempotency.cleanup-interval}")
+    public void deleteExpiredKeys() {
+        LocalDateTime now = LocalDateTime.now();
+        orderIdempotencyKeyRepository.deleteAllCreatedBefore(now.minus(retention),
+                OrderIdempotencyKey.Status.PENDING, now.minus(pendingTimeout));
+    }
+
+    private OrderDto reserveAndSubmitOrder(RequestKey requestKey, String requestHash,
+                                           Pageable pageable,
+                                           CreateOrderRequestDto createOrderDto) {
+        OrderIdempotencyKey reservation;
+        try {
+            reservation = orderIdempotencyKeyRepository.saveAndFlush(new OrderIdempotencyKey()
+                    .setUserId(requestKey.userId())
+                    .setIdempotencyKey(requestKey.idempotencyKey())
+                    .setStatus(OrderIdempotencyKey.Status.PENDING)
+                    .setRequestHash(requestHash)
+                    .setCreatedAt(LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            // The key was reserved before, by an earlier request or by another instance
+            return findReservedOrder(requestKey, requestHash);
+        }
+
+        try {
+            return orderService.createOrder(
+                    requestKey.userId(), pageable, createOrderDto, reservation.getId());
+        } catch (RuntimeException e) {
+            // The checkout rolled back, so the key is released for a retry
+            orderIdempotencyKeyRepository.deleteById(reservation.getId());
+            throw e;
+        }
+    }
+
+    private OrderDto findReservedOrder(RequestKey requestKey, String requestHash) {
+        OrderIdempotencyKey reservation = orderIdempotencyKeyRepository
+                .findByUserIdAndIdempotencyKey(requestKey.userId(), requestKey.idempotencyKey())
+                .orElseThrow(() -> inProgress(requestKey));
+        if (reservation.getRequestHash() != null
+                && !reservation.getRequestHash().equals(requestHash)) {
+            throw mismatch(requestKey);
+        }
+        return orderService.findOrderByIdempotencyKey(
+                        requestKey.userId(), requestKey.idempotencyKey())
+                .orElseThrow(() -> inProgress(requestKey));
+    }
+
+    private OrderDto matchingOrder(RequestKey requestKey, String requestHash,
+                                   CompletedOrder completedOrder) {
+        if (!completedOrder.requestHash().equals(requestHash)) {
+            throw mismatch(requestKey);
+        }
+        return completedOrder.order();
+    }
+
+    private String hash(CreateOrderRequestDto createOrderDto) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(objectMapper.writeValueAsBytes(createOrderDto)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private ReentrantLock stripeFor(RequestKey requestKey) {
+        return stripes[Math.floorMod(requestKey.hashCode(), stripes.length)];
+    }
+
+    private static IdempotencyKeyInProgressException inProgress(RequestKey requestKey) {
+        return new IdempotencyKeyInProgressException("An order with Idempotency-Key "
+                + requestKey.idempotencyKey() + " is still being processed, please retry");
+    }
+
+    private static IdempotencyKeyMismatchException mismatch(RequestKey requestKey) {
+        return new IdempotencyKeyMismatchException("Idempotency-Key "
+                + requestKey.idempotencyKey() + " was already used with a different request");
+    }
+
+    private record RequestKey(Long userId, String idempotencyKey) {
+    }
+
+    private record CompletedOrder(String requestHash, OrderDto order) {
+    }
+}
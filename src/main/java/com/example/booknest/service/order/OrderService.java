@@ -4,7 +4,9 @@ import com.example.booknest.dto.order.CreateOrderRequestDto;
 import com.example.booknest.dto.order.OrderDto;
 import com.example.booknest.dto.order.UpdateOrderRequestDto;
 import com.example.booknest.dto.orderitem.OrderItemDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 
 public interface OrderService {
@@ -12,9 +14,21 @@ public interface OrderService {
                          Pageable pageable,
                          CreateOrderRequestDto createOrderDto);
 
+    OrderDto createOrder(Long userId,
+                         Pageable pageable,
+                         CreateOrderRequestDto createOrderDto,
+                         Long idempotencyKeyId);
+
+    Optional<OrderDto> findOrderByIdempotencyKey(Long userId,
+                                                 String idempotencyKey);
+
     List<OrderDto> getOrders(Long userId,
                              Pageable pageable);
 
+    CursorPageDto<OrderDto> getOrdersByCursor(Long userId,
+                                              String cursor,
+                                              int size);
+
     OrderDto updateOrderStatus(Long orderId,
                                UpdateOrderRequestDto updateOrderDto);
 
@@ -4,42 +4,69 @@ import com.example.booknest.dto.order.CreateOrderRequestDto;
 import com.example.booknest.dto.order.OrderDto;
 import com.example.booknest.dto.order.UpdateOrderRequestDto;
 import com.example.booknest.dto.orderitem.OrderItemDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
 import com.example.booknest.exception.EntityNotFoundException;
 import com.example.booknest.exception.OrderProcessingException;
+import com.example.booknest.lock.LockedPerUser;
 import com.example.booknest.mapper.OrderItemMapper;
 import com.example.booknest.mapper.OrderMapper;
+import com.example.booknest.mapper.OrderSummaryMapper;
+import com.example.booknest.metrics.ApplicationMetrics;
 import com.example.booknest.model.CartItem;
 import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderIdempotencyKey;
 import com.example.booknest.model.OrderItem;
+import com.example.booknest.model.OrderSummary;
 import com.example.booknest.model.ShoppingCart;
+import com.example.booknest.outbox.OrderOutbox;
+import com.example.booknest.repository.cartitem.CartItemRepository;
+import com.example.booknest.repository.order.OrderIdempotencyKeyRepository;
 import com.example.booknest.repository.order.OrderRepository;
+import com.example.booknest.repository.order.OrderSummaryRepository;
 import com.example.booknest.repository.orderitem.OrderItemRepository;
 import com.example.booknest.repository.shoppingcart.ShoppingCartRepository;
 import com.example.booknest.repository.user.UserRepository;
-import java.math.BigDecimal;
+import com.example.booknest.service.pagination.CursorCodec;
+import com.example.booknest.service.shoppingcart.ShoppingCartService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("booknest.service")
 @Transactional
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
     private final ShoppingCartRepository shoppingCartRepository;
+    private final CartItemRepository cartItemRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderItemMapper orderItemMapper;
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryMapper orderSummaryMapper;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
     private final UserRepository userRepository;
+    private final ShoppingCartService shoppingCartService;
+    private final EntityManager entityManager;
+    private final ApplicationMetrics applicationMetrics;
+    private final OrderOutbox orderOutbox;
 
     @Override
+    @LockedPerUser
     public OrderDto createOrder(Long userId, Pageable pageable,
                                 CreateOrderRequestDto createOrderDto) {
+        shoppingCartService.flushShoppingCart(userId);
         ShoppingCart shoppingCart = findShoppingCartByUserId(userId);
 
         Set<CartItem> cartItems = shoppingCart.getCartItems();
@@ -50,30 +77,70 @@ public class OrderServiceImpl implements OrderService {
 
         Order order = placeAnOrder(shoppingCart, createOrderDto.shippingAddress());
         order.setOrderItems(createSetOfOrderItems(order, cartItems));
+        entityManager.persist(orderSummaryMapper.toSummary(order));
         OrderDto orderResponseDto = orderMapper.toDto(order);
         cleanShoppingCart(shoppingCart);
+        orderOutbox.orderCreated(orderResponseDto);
+        applicationMetrics.recordCheckout(order.getOrderItems().size(), order.getOrderItems()
+                .stream()
+                .mapToInt(OrderItem::getQuantity)
+                .sum());
 
         return orderResponseDto;
     }
 
+    @Override
+    @LockedPerUser
+    public OrderDto createOrder(Long userId, Pageable pageable,
+                                CreateOrderRequestDto createOrderDto,
+                                Long idempotencyKeyId) {
+        OrderDto orderResponseDto = createOrder(userId, pageable, createOrderDto);
+        orderIdempotencyKeyRepository.updateOrderIdAndStatus(idempotencyKeyId,
+                orderResponseDto.id(), OrderIdempotencyKey.Status.COMPLETED);
+        return orderResponseDto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OrderDto> findOrderByIdempotencyKey(Long userId, String idempotencyKey) {
+        return orderIdempotencyKeyRepository
+                .findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .filter(key -> key.getStatus() == OrderIdempotencyKey.Status.COMPLETED)
+                .map(key -> orderMapper.toDto(findOrderByOrderId(key.getOrderId())));
+    }
+
     @Override
     public List<OrderDto> getOrders(Long userId, Pageable pageable) {
-        List<Order> userOrders = orderRepository.findAllByUserId(userId, pageable);
+        List<OrderSummary> userOrders = orderSummaryRepository.findAllByUserId(userId, pageable);
         if (userOrders.isEmpty()) {
             throw new EntityNotFoundException(
                     "No orders found for user with id: " + userId);
         }
 
-        return orderMapper.toDtoList(userOrders);
+        return orderSummaryMapper.toDtoList(userOrders);
+    }
+
+    @Override
+    public CursorPageDto<OrderDto> getOrdersByCursor(Long userId, String cursor, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<OrderSummary> userOrders = cursor == null
+                ? orderSummaryRepository.findAllByUserIdOrderByOrderDateAndId(userId, limit)
+                : findAllByUserIdBefore(userId, OrderDateCursor.decode(cursor), limit);
+        return CursorCodec.toPage(userOrders, size, OrderDateCursor::encode,
+                orderSummaryMapper::toDtoList);
     }
 
     @Override
     public OrderDto updateOrderStatus(Long orderId,
                                       UpdateOrderRequestDto updateOrderDto) {
         Order order = findOrderByOrderId(orderId);
+        final Order.Status previousStatus = order.getStatus();
         order.setStatus(updateOrderDto.status());
         Order savedOrder = orderRepository.save(order);
-        return orderMapper.toDto(savedOrder);
+        orderSummaryRepository.updateStatus(orderId, savedOrder.getStatus());
+        OrderDto orderDto = orderMapper.toDto(savedOrder);
+        orderOutbox.orderStatusChanged(orderDto, previousStatus);
+        return orderDto;
     }
 
     @Override
@@ -96,9 +163,17 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private ShoppingCart findShoppingCartByUserId(Long userId) {
-        return shoppingCartRepository.findByUserId(userId)
+        ShoppingCart shoppingCart = shoppingCartRepository.findWithCartItemsByUserId(userId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find shopping cart by user Id: " + userId));
+        entityManager.lock(shoppingCart, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        return shoppingCart;
+    }
+
+    private List<OrderSummary> findAllByUserIdBefore(
+            Long userId, OrderDateCursor cursor, Pageable limit) {
+        return orderSummaryRepository.findAllByUserIdBeforeOrderDateAndId(
+                userId, cursor.orderDate(), cursor.id(), limit);
     }
 
     private Order findOrderByOrderId(Long orderId) {
@@ -119,18 +194,10 @@ public class OrderServiceImpl implements OrderService {
         order.setStatus(Order.Status.PENDING);
         order.setOrderDate(LocalDateTime.now());
         order.setShippingAddress(shippingAddress);
-        order.setTotal(countTotalOrderPrice(shoppingCart.getCartItems()));
+        order.setTotal(OrderTotals.of(shoppingCart.getCartItems()));
         return orderRepository.save(order);
     }
 
-    private BigDecimal countTotalOrderPrice(Set<CartItem> cartItems) {
-        return cartItems.stream()
-                .map(c -> c.getBook()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(c.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
     private Set<OrderItem> createSetOfOrderItems(Order order, Set<CartItem> cartItems) {
         Set<OrderItem> orderItems = cartItems.stream()
                 .map(c -> {
@@ -144,7 +211,19 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void cleanShoppingCart(ShoppingCart shoppingCart) {
+        cartItemRepository.deleteAllByShoppingCartId(shoppingCart.getId());
         shoppingCart.getCartItems().clear();
-        shoppingCartRepository.save(shoppingCart);
+    }
+
+    private record OrderDateCursor(LocalDateTime orderDate, Long id) {
+        static OrderDateCursor decode(String cursor) {
+            return CursorCodec.decode(cursor, 2, keys -> new OrderDateCursor(
+                    LocalDateTime.parse(keys[0]), Long.valueOf(keys[1])));
+        }
+
+        static String encode(OrderSummary order) {
+            return CursorCodec.encode(
+                    order.getOrderDate().toString(), String.valueOf(order.getId()));
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.model.Order.Status;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+final class OrderStatusTransitions {
+    private static final Map<Status, Set<Status>> ALLOWED = new EnumMap<>(Status.class);
+
+    static {
+        ALLOWED.put(Status.PENDING, EnumSet.of(
+                Status.AWAITING_PAYMENT, Status.CONFIRMED, Status.CANCELED, Status.DECLINED));
+        ALLOWED.put(Status.AWAITING_PAYMENT, EnumSet.of(
+                Status.CONFIRMED, Status.CANCELED, Status.DECLINED));
+        ALLOWED.put(Status.CONFIRMED, EnumSet.of(
+                Status.SHIPPING, Status.CANCELED, Status.REFUNDED));
+        ALLOWED.put(Status.SHIPPING, EnumSet.of(Status.DELIVERED));
+        ALLOWED.put(Status.DELIVERED, EnumSet.of(Status.COMPLETED, Status.REFUNDED));
+        ALLOWED.put(Status.COMPLETED, EnumSet.of(Status.REFUNDED));
+        ALLOWED.put(Status.CANCELED, EnumSet.noneOf(Status.class));
+        ALLOWED.put(Status.DECLINED, EnumSet.noneOf(Status.class));
+        ALLOWED.put(Status.REFUNDED, EnumSet.noneOf(Status.class));
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    static boolean isAllowed(Status from, Status to) {
+        return ALLOWED.get(from).contains(to);
+    }
+}
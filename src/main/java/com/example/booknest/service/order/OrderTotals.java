@@ -0,0 +1,18 @@
+package com.example.booknest.service.order;
+
+import com.example.booknest.model.CartItem;
+import java.math.BigDecimal;
+import java.util.Collection;
+
+public final class OrderTotals {
+    private OrderTotals() {
+    }
+
+    public static BigDecimal of(Collection<CartItem> cartItems) {
+        return cartItems.stream()
+                .map(c -> c.getBook()
+                        .getPrice()
+                        .multiply(BigDecimal.valueOf(c.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.booknest.service.pagination;
+
+import com.example.booknest.dto.pagination.CursorPageDto;
+import com.example.booknest.exception.InvalidCursorException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorCodec {
+    private CursorCodec() {
+    }
+
+    public static String encode(String... keys) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(keys.length);
+            for (String key : keys) {
+                out.writeUTF(key);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static <T> T decode(String cursor, int expectedKeys, Function<String[], T> parser) {
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != expectedKeys) {
+                throw new IllegalArgumentException("Unexpected number of cursor keys");
+            }
+            String[] keys = new String[expectedKeys];
+            for (int i = 0; i < expectedKeys; i++) {
+                keys[i] = in.readUTF();
+            }
+            return parser.apply(keys);
+        } catch (IOException | RuntimeException e) {
+            throw new InvalidCursorException("Invalid pagination cursor: " + cursor);
+        }
+    }
+
+    public static <E, D> CursorPageDto<D> toPage(List<E> rows,
+                                                 int size,
+                                                 Function<E, String> cursorOf,
+                                                 Function<List<E>, List<D>> mapper) {
+        if (rows.size() <= size) {
+            return new CursorPageDto<>(mapper.apply(rows), null);
+        }
+        List<E> page = rows.subList(0, size);
+        return new CursorPageDto<>(mapper.apply(page), cursorOf.apply(page.get(size - 1)));
+    }
+}
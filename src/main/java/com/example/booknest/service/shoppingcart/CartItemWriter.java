@@ -0,0 +1,53 @@
+package com.example.booknest.service.shoppingcart;
+
+import com.example.booknest.model.CartItem;
+import com.example.booknest.model.ShoppingCart;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.cartitem.CartItemRepository;
+import com.example.booknest.repository.shoppingcart.ShoppingCartRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class CartItemWriter {
+    private final CartItemRepository cartItemRepository;
+    private final ShoppingCartRepository shoppingCartRepository;
+    private final BookRepository bookRepository;
+
+    public void write(Long shoppingCartId, Map<Long, Integer> quantities) {
+        ShoppingCart shoppingCart = shoppingCartRepository.getReferenceById(shoppingCartId);
+        Map<Long, CartItem> existing = cartItemRepository
+                .findAllByShoppingCartIdAndBookIdIn(shoppingCartId, quantities.keySet()).stream()
+                .collect(Collectors.toMap(CartItem::getId, Function.identity()));
+        List<CartItem> changed = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+        quantities.forEach((bookId, quantity) -> {
+            CartItem cartItem = existing.get(bookId);
+            if (quantity == 0) {
+                if (cartItem != null) {
+                    removedIds.add(bookId);
+                }
+                return;
+            }
+            if (cartItem == null) {
+                cartItem = new CartItem()
+                        .setShoppingCart(shoppingCart)
+                        .setBook(bookRepository.getReferenceById(bookId));
+            }
+            changed.add(cartItem.setQuantity(quantity));
+        });
+        cartItemRepository.saveAll(changed);
+        if (!removedIds.isEmpty()) {
+            cartItemRepository.deleteAllByShoppingCartIdAndBookIdIn(shoppingCartId, removedIds);
+        }
+        cartItemRepository.flush();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.booknest.service.shoppingcart;
+
+import com.example.booknest.dto.cartitem.CartItemDto;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+class InMemoryShoppingCart {
+    private static final int REMOVED = 0;
+
+    private final Long shoppingCartId;
+    private final Map<Long, CartItemDto> cartItems = new LinkedHashMap<>();
+    private final Map<Long, Integer> pendingQuantities = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastAccessNanos = System.nanoTime();
+    private boolean evicted;
+
+    InMemoryShoppingCart(Long shoppingCartId, List<CartItemDto> cartItems) {
+        this.shoppingCartId = shoppingCartId;
+        cartItems.forEach(cartItem -> this.cartItems.put(cartItem.bookId(), cartItem));
+    }
+
+    Long getShoppingCartId() {
+        return shoppingCartId;
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    ReentrantLock getFlushLock() {
+        return flushLock;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    boolean isIdleSince(long nanos) {
+        return lastAccessNanos - nanos < 0;
+    }
+
+    CartItemDto get(Long cartItemId) {
+        return cartItems.get(cartItemId);
+    }
+
+    List<CartItemDto> getPage(long offset, int size) {
+        return cartItems.values().stream()
+                .skip(offset)
+                .limit(size)
+                .toList();
+    }
+
+    CartItemDto put(Long bookId, String bookTitle, Integer quantity) {
+        CartItemDto cartItem = new CartItemDto(bookId, bookId, bookTitle, quantity);
+        cartItems.put(bookId, cartItem);
+        pendingQuantities.put(bookId, quantity);
+        return cartItem;
+    }
+
+    void remove(Long bookId) {
+        cartItems.remove(bookId);
+        pendingQuantities.put(bookId, REMOVED);
+    }
+
+    boolean hasPendingChanges() {
+        return !pendingQuantities.isEmpty();
+    }
+
+    Map<Long, Integer> drainPendingChanges() {
+        Map<Long, Integer> changes = new LinkedHashMap<>(pendingQuantities);
+        pendingQuantities.clear();
+        return changes;
+    }
+
+    void requeue(Map<Long, Integer> changes) {
+        changes.forEach(pendingQuantities::putIfAbsent);
+    }
+}
@@ -26,4 +26,6 @@ public interface ShoppingCartService {
     void deleteBookFromShoppingCart(
             User user,
             Long cartItemId);
+
+    void flushShoppingCart(Long userId);
 }
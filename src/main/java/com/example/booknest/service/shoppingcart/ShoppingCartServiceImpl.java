@@ -5,6 +5,7 @@ import com.example.booknest.dto.cartitem.CreateCartItemRequestDto;
 import com.example.booknest.dto.cartitem.UpdateCartItemRequestDto;
 import com.example.booknest.dto.shoppingcart.ShoppingCartDto;
 import com.example.booknest.exception.EntityNotFoundException;
+import com.example.booknest.lock.LockedPerUser;
 import com.example.booknest.mapper.CartItemMapper;
 import com.example.booknest.mapper.ShoppingCartMapper;
 import com.example.booknest.model.Book;
@@ -14,16 +15,21 @@ import com.example.booknest.model.User;
 import com.example.booknest.repository.book.BookRepository;
 import com.example.booknest.repository.cartitem.CartItemRepository;
 import com.example.booknest.repository.shoppingcart.ShoppingCartRepository;
+import io.micrometer.core.annotation.Timed;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("booknest.service")
+@ConditionalOnProperty(name = "shopping-cart.storage",
+        havingValue = "database", matchIfMissing = true)
 @Transactional
 @RequiredArgsConstructor
 public class ShoppingCartServiceImpl implements ShoppingCartService {
@@ -45,12 +51,14 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
             User user, Pageable pageable) {
         ShoppingCart shoppingCartFromDB = findShoppingCartByUserId(user.getId());
         ShoppingCartDto shoppingCartDto = shoppingCartMapper.toDto(shoppingCartFromDB);
-        Set<CartItemDto> cartItemsSetById = findSetByShoppingCartId(user, pageable);
+        Set<CartItemDto> cartItemsSetById = findSetByShoppingCartId(
+                shoppingCartFromDB.getId(), pageable);
         shoppingCartDto.setCartItems(cartItemsSetById);
         return shoppingCartDto;
     }
 
     @Override
+    @LockedPerUser
     public CartItemDto addBookToShoppingCart(
             User user, CreateCartItemRequestDto createCartDto) {
         Book bookFromDB = findBookByBookId(createCartDto);
@@ -65,27 +73,34 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
                 });
         cartItemFromDB.setQuantity(createCartDto.quantity());
         cartItemRepository.save(cartItemFromDB);
+        shoppingCartRepository.incrementVersion(shoppingCartFromDB.getId());
         return cartItemMapper.toDto(cartItemFromDB);
     }
 
     @Override
+    @LockedPerUser
     public CartItemDto updateBookInShoppingCart(
             User user,
             Long cartItemId,
             UpdateCartItemRequestDto updateCartDto) {
-        CartItem cartItemFromDB = findCartItemById(cartItemId);
-        isShoppingCartContainsCartItem(cartItemId);
+        CartItem cartItemFromDB = findCartItemInShoppingCart(user.getId(), cartItemId);
         cartItemFromDB.setQuantity(updateCartDto.quantity());
         cartItemRepository.save(cartItemFromDB);
+        shoppingCartRepository.incrementVersion(user.getId());
         return cartItemMapper.toDto(cartItemFromDB);
     }
 
     @Override
+    @LockedPerUser
     public void deleteBookFromShoppingCart(
             User user, Long cartItemId) {
-        CartItem cartItemFromDB = findCartItemById(cartItemId);
-        isShoppingCartContainsCartItem(cartItemId);
+        CartItem cartItemFromDB = findCartItemInShoppingCart(user.getId(), cartItemId);
         cartItemRepository.delete(cartItemFromDB);
+        shoppingCartRepository.incrementVersion(user.getId());
+    }
+
+    @Override
+    public void flushShoppingCart(Long userId) {
     }
 
     private ShoppingCart findShoppingCartByUserId(Long userId) {
@@ -100,31 +115,19 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
                         "Can't find Book by bookId: " + createCartDto.bookId()));
     }
 
-    private CartItem findCartItemById(Long cartItemId) {
-        return cartItemRepository.findById(cartItemId)
+    private CartItem findCartItemInShoppingCart(Long shoppingCartId, Long cartItemId) {
+        return cartItemRepository.findByIdAndShoppingCartId(cartItemId, shoppingCartId)
                 .orElseThrow(() -> new EntityNotFoundException(
-                        "Can't find CartItem by cartItemId: " + cartItemId));
+                        "Can't find CartItem in the ShoppingCart by id: " + cartItemId));
     }
 
     private List<CartItem> findCartItemsListById(Long shoppingCartId, Pageable pageable) {
         return cartItemRepository.findListByShoppingCartId(shoppingCartId, pageable);
     }
 
-    public Set<CartItemDto> findSetByShoppingCartId(
-            User user, Pageable pageable) {
-        Long shoppingCartId = findShoppingCartByUserId(user.getId()).getId();
+    private Set<CartItemDto> findSetByShoppingCartId(Long shoppingCartId, Pageable pageable) {
         return findCartItemsListById(shoppingCartId, pageable).stream()
                 .map(cartItemMapper::toDto)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
-
-    private void isShoppingCartContainsCartItem(Long cartItemId) {
-        List<CartItem> cartItemsListById = cartItemRepository.findAll();
-        CartItem cartItemById = findCartItemById(cartItemId);
-        if (cartItemsListById.stream().noneMatch(
-                cartItem -> cartItem.getId().equals(cartItemById.getId()))) {
-            throw new EntityNotFoundException(
-                    "Can't find CartItem in the ShoppingCart by id: " + cartItemId);
-        }
-    }
 }
@@ -0,0 +1,264 @@
+package com.example.booknest.service.shoppingcart;
+
+import com.example.booknest.dto.cartitem.CartItemDto;
+import com.example.booknest.dto.cartitem.CreateCartItemRequestDto;
+import com.example.booknest.dto.cartitem.UpdateCartItemRequestDto;
+import com.example.booknest.dto.shoppingcart.ShoppingCartDto;
+import com.example.booknest.exception.EntityNotFoundException;
+import com.example.booknest.lock.LockedPerUser;
+import com.example.booknest.mapper.CartItemMapper;
+import com.example.booknest.model.Book;
+import com.example.booknest.model.ShoppingCart;
+import com.example.booknest.model.User;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.cartitem.CartItemRepository;
+import com.example.booknest.repository.shoppingcart.ShoppingCartRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@Timed("booknest.service")
+@ConditionalOnProperty(name = "shopping-cart.storage", havingValue = "write-behind")
+@RequiredArgsConstructor
+public class WriteBehindShoppingCartService implements ShoppingCartService {
+    private final ConcurrentMap<Long, InMemoryShoppingCart> shoppingCarts =
+            new ConcurrentHashMap<>();
+    private final ShoppingCartRepository shoppingCartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartItemMapper cartItemMapper;
+    private final BookRepository bookRepository;
+    private final CartItemWriter cartItemWriter;
+    @Value("${shopping-cart.write-behind.idle-timeout}")
+    private Duration idleTimeout;
+
+    @Override
+    public void createShoppingCart(User user) {
+        ShoppingCart shoppingCart = new ShoppingCart();
+        shoppingCart.setUser(user);
+        shoppingCartRepository.save(shoppingCart);
+    }
+
+    @Override
+    public ShoppingCartDto findShoppingCart(
+            User user, Pageable pageable) {
+        return withShoppingCart(user.getId(), shoppingCart -> new ShoppingCartDto()
+                .setId(shoppingCart.getShoppingCartId())
+                .setUserId(user.getId())
+                .setCartItems(new LinkedHashSet<>(shoppingCart.getPage(
+                        pageable.getOffset(), pageable.getPageSize()))));
+    }
+
+    @Override
+    @LockedPerUser
+    public CartItemDto addBookToShoppingCart(
+            User user, CreateCartItemRequestDto createCartDto) {
+        Book bookFromDB = findBookByBookId(createCartDto);
+        return withShoppingCart(user.getId(), shoppingCart -> shoppingCart.put(
+                bookFromDB.getId(), bookFromDB.getTitle(), createCartDto.quantity()));
+    }
+
+    @Override
+    @LockedPerUser
+    public CartItemDto updateBookInShoppingCart(
+            User user,
+            Long cartItemId,
+            UpdateCartItemRequestDto updateCartDto) {
+        return withShoppingCart(user.getId(), shoppingCart -> {
+            CartItemDto cartItem = findCartItemById(shoppingCart, cartItemId);
+            return shoppingCart.put(
+                    cartItem.bookId(), cartItem.bookTitle(), updateCartDto.quantity());
+        });
+    }
+
+    @Override
+    @LockedPerUser
+    public void deleteBookFromShoppingCart(
+            User user, Long cartItemId) {
+        withShoppingCart(user.getId(), shoppingCart -> {
+            shoppingCart.remove(findCartItemById(shoppingCart, cartItemId).bookId());
+            return null;
+        });
+    }
+
+    @Override
+    public void flushShoppingCart(Long userId) {
+        InMemoryShoppingCart shoppingCart = shoppingCarts.get(userId);
+        if (shoppingCart == null) {
+            return;
+        }
+        // The flush lock is held until the checkout transaction completes, so the scheduled
+        // flush cannot evict the cart while its changes may still have to be restored
+        shoppingCart.getFlushLock().lock();
+        try {
+            Map<Long, Integer> changes = locked(shoppingCart, () -> shoppingCart.isEvicted()
+                    ? null : shoppingCart.drainPendingChanges());
+            if (changes == null) {
+                shoppingCart.getFlushLock().unlock();
+                return;
+            }
+            write(shoppingCart, changes);
+            afterCompletion(committed -> {
+                try {
+                    locked(shoppingCart, () -> {
+                        if (committed) {
+                            shoppingCart.evict();
+                            shoppingCarts.remove(userId, shoppingCart);
+                        } else {
+                            shoppingCart.requeue(changes);
+                        }
+                        return null;
+                    });
+                } finally {
+                    shoppingCart.getFlushLock().unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            shoppingCart.getFlushLock().unlock();
+            throw e;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${shopping-cart.write-behind.flush-interval}",
+            fixedDelayString = "${shopping-cart.write-behind.flush-interval}")
+    public void flushPendingChanges() {
+        long idleSince = System.nanoTime() - idleTimeout.toNanos();
+        RuntimeException failure = null;
+        for (Map.Entry<Long, InMemoryShoppingCart> entry : shoppingCarts.entrySet()) {
+            try {
+                flush(entry.getKey(), entry.getValue(), idleSince);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingChanges();
+    }
+
+    private <T> T withShoppingCart(Long userId, Function<InMemoryShoppingCart, T> action) {
+        while (true) {
+            InMemoryShoppingCart shoppingCart = shoppingCarts.get(userId);
+            if (shoppingCart == null) {
+                InMemoryShoppingCart loaded = loadShoppingCart(userId);
+                InMemoryShoppingCart previous = shoppingCarts.putIfAbsent(userId, loaded);
+                shoppingCart = previous != null ? previous : loaded;
+            }
+            shoppingCart.getLock().lock();
+            try {
+                if (!shoppingCart.isEvicted()) {
+                    shoppingCart.touch();
+                    return action.apply(shoppingCart);
+                }
+            } finally {
+                shoppingCart.getLock().unlock();
+            }
+        }
+    }
+
+    private InMemoryShoppingCart loadShoppingCart(Long userId) {
+        Long shoppingCartId = shoppingCartRepository.findByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find ShoppingCart by userId: " + userId))
+                .getId();
+        List<CartItemDto> cartItems = cartItemRepository
+                .findAllWithBookByShoppingCartId(shoppingCartId).stream()
+                .map(cartItemMapper::toDto)
+                .toList();
+        return new InMemoryShoppingCart(shoppingCartId, cartItems);
+    }
+
+    private void flush(Long userId, InMemoryShoppingCart shoppingCart, long idleSince) {
+        shoppingCart.getFlushLock().lock();
+        try {
+            write(shoppingCart, locked(shoppingCart, shoppingCart::drainPendingChanges));
+            locked(shoppingCart, () -> {
+                if (!shoppingCart.hasPendingChanges() && shoppingCart.isIdleSince(idleSince)) {
+                    shoppingCart.evict();
+                    shoppingCarts.remove(userId, shoppingCart);
+                }
+                return null;
+            });
+        } finally {
+            shoppingCart.getFlushLock().unlock();
+        }
+    }
+
+    private void write(InMemoryShoppingCart shoppingCart, Map<Long, Integer> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            cartItemWriter.write(shoppingCart.getShoppingCartId(), changes);
+        } catch (RuntimeException e) {
+            locked(shoppingCart, () -> {
+                shoppingCart.requeue(changes);
+                return null;
+            });
+            throw e;
+        }
+    }
+
+    private <T> T locked(InMemoryShoppingCart shoppingCart, Supplier<T> action) {
+        shoppingCart.getLock().lock();
+        try {
+            return action.get();
+        } finally {
+            shoppingCart.getLock().unlock();
+        }
+    }
+
+    private void afterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            action.accept(status == STATUS_COMMITTED);
+                        }
+                    });
+        } else {
+            action.accept(true);
+        }
+    }
+
+    private Book findBookByBookId(CreateCartItemRequestDto createCartDto) {
+        return bookRepository.findById(createCartDto.bookId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find Book by bookId: " + createCartDto.bookId()));
+    }
+
+    private CartItemDto findCartItemById(InMemoryShoppingCart shoppingCart, Long cartItemId) {
+        CartItemDto cartItem = shoppingCart.get(cartItemId);
+        if (cartItem == null) {
+            throw new EntityNotFoundException(
+                    "Can't find CartItem in the ShoppingCart by id: " + cartItemId);
+        }
+        return cartItem;
+    }
+}
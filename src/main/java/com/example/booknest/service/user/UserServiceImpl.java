@@ -9,6 +9,7 @@ import com.example.booknest.model.User;
 import com.example.booknest.repository.role.RoleRepository;
 import com.example.booknest.repository.user.UserRepository;
 import com.example.booknest.service.shoppingcart.ShoppingCartService;
+import io.micrometer.core.annotation.Timed;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("booknest.service")
 @Transactional
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
@@ -0,0 +1,11 @@
+package com.example.booknest.statement;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class CountingStatementInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.booknest.statement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+    int UNLIMITED = Integer.MAX_VALUE;
+
+    int value();
+}
@@ -0,0 +1,72 @@
+package com.example.booknest.statement;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Slf4j
+@Component
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor {
+    private static final String COUNT_ATTRIBUTE = StatementBudgetInterceptor.class.getName();
+
+    @Value("${statement-budget.max-statements}")
+    private int maxStatements;
+    @Value("${statement-budget.mode}")
+    private StatementBudgetMode mode;
+    @Value("${statement-budget.repeated-statement-threshold}")
+    private int repeatedStatementThreshold;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) {
+        StatementCount count = StatementCounter.start(
+                budgetOf(handler), mode == StatementBudgetMode.FAIL);
+        request.setAttribute(COUNT_ATTRIBUTE, count);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                               HttpServletResponse response,
+                                               Object handler) {
+        finish(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        finish(request);
+    }
+
+    private void finish(HttpServletRequest request) {
+        if (!(request.getAttribute(COUNT_ATTRIBUTE) instanceof StatementCount count)) {
+            return;
+        }
+        request.removeAttribute(COUNT_ATTRIBUTE);
+        count.close();
+        if (count.exceeded()) {
+            log.warn("{} {} executed {} SQL statements, its budget is {}",
+                    request.getMethod(), request.getRequestURI(), count.total(), count.budget());
+        }
+        count.mostRepeated()
+                .filter(statement -> statement.getValue() >= repeatedStatementThreshold)
+                .ifPresent(statement -> log.warn(
+                        "{} {} executed the same SQL statement {} times, possible N+1: {}",
+                        request.getMethod(), request.getRequestURI(),
+                        statement.getValue(), statement.getKey()));
+    }
+
+    private int budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return maxStatements;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.booknest.statement;
+
+public enum StatementBudgetMode {
+    LOG,
+    FAIL
+}
@@ -0,0 +1,55 @@
+package com.example.booknest.statement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class StatementCount implements AutoCloseable {
+    private final StatementCount parent;
+    private final int budget;
+    private final boolean failWhenExceeded;
+    private final Map<String, Integer> executionsBySql = new LinkedHashMap<>();
+    private int total;
+
+    StatementCount(StatementCount parent, int budget, boolean failWhenExceeded) {
+        this.parent = parent;
+        this.budget = budget;
+        this.failWhenExceeded = failWhenExceeded;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public int budget() {
+        return budget;
+    }
+
+    public boolean exceeded() {
+        return total > budget;
+    }
+
+    public Map<String, Integer> executionsBySql() {
+        return Map.copyOf(executionsBySql);
+    }
+
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue());
+    }
+
+    @Override
+    public void close() {
+        StatementCounter.stop(this);
+    }
+
+    StatementCount parent() {
+        return parent;
+    }
+
+    boolean add(String sql) {
+        total++;
+        executionsBySql.merge(sql, 1, Integer::sum);
+        return failWhenExceeded && exceeded();
+    }
+}
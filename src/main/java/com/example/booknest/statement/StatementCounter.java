@@ -0,0 +1,45 @@
+package com.example.booknest.statement;
+
+import com.example.booknest.exception.StatementBudgetExceededException;
+
+public final class StatementCounter {
+    private static final ThreadLocal<StatementCount> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static StatementCount start() {
+        return start(Integer.MAX_VALUE, false);
+    }
+
+    public static StatementCount start(int budget, boolean failWhenExceeded) {
+        StatementCount count = new StatementCount(CURRENT.get(), budget, failWhenExceeded);
+        CURRENT.set(count);
+        return count;
+    }
+
+    static void record(String sql) {
+        StatementCount exceeded = null;
+        for (StatementCount count = CURRENT.get(); count != null; count = count.parent()) {
+            if (count.add(sql) && exceeded == null) {
+                exceeded = count;
+            }
+        }
+        if (exceeded != null) {
+            throw new StatementBudgetExceededException(String.format(
+                    "Request exceeded its budget of %d SQL statements with: %s",
+                    exceeded.budget(), sql));
+        }
+    }
+
+    static void stop(StatementCount count) {
+        if (CURRENT.get() != count) {
+            return;
+        }
+        if (count.parent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(count.parent());
+        }
+    }
+}
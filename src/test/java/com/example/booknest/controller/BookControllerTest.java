@@ -1,5 +1,6 @@
 package com.example.booknest.controller;
 
+import static com.example.booknest.statement.StatementCountAssertions.assertMaxStatements;
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -105,12 +106,12 @@ class BookControllerTest {
         List<BookDto> expected = getBookDtoList();
 
         //When
-        MvcResult result = mockMvc.perform(
+        MvcResult result = assertMaxStatements(3, () -> mockMvc.perform(
                         get("/books")
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andReturn();
+                .andReturn());
 
         //Then
         BookDto[] actual = objectMapper.readValue(
@@ -131,12 +132,12 @@ class BookControllerTest {
         BookDto expected = getBookDtoList().get(0);
 
         //When
-        MvcResult result = mockMvc.perform(
+        MvcResult result = assertMaxStatements(2, () -> mockMvc.perform(
                         get("/books/1")
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andReturn();
+                .andReturn());
 
         //Then
         BookDto actual = objectMapper.readValue(
@@ -159,12 +160,12 @@ class BookControllerTest {
         params.add("title", "Sample Book 2");
 
         //When
-        MvcResult result = mockMvc.perform(
+        MvcResult result = assertMaxStatements(2, () -> mockMvc.perform(
                         get("/books/search")
                                 .params(params)
                 )
                 .andExpect(status().isOk())
-                .andReturn();
+                .andReturn());
 
         //Then
         List<BookDto> actual = objectMapper.readValue(
@@ -173,6 +174,27 @@ class BookControllerTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    @Order(3)
+    @DisplayName("""
+            Reject a search sorted by a field the search index can't sort on
+            """)
+    @WithMockUser(username = "user")
+    void searchBooks_UnsupportedSort_ReturnsBadRequest() throws Exception {
+        //Given
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("title", "Sample Book 2");
+        params.add("sort", "description");
+
+        //When
+        mockMvc.perform(
+                        get("/books/search")
+                                .params(params)
+                )
+                //Then
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Order(4)
     @DisplayName("""
@@ -0,0 +1,55 @@
+package com.example.booknest.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.booknest.exception.SearchIndexUnavailableException;
+import com.example.booknest.search.BookSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookSearchUnavailableControllerTest {
+    private MockMvc mockMvc;
+    @MockitoBean
+    private BookSearchEngine bookSearchEngine;
+
+    @BeforeEach
+    void setUp(@Autowired WebApplicationContext applicationContext) {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("""
+            Answer a search with 503 while the search index is still being built
+            """)
+    @WithMockUser(username = "user")
+    void searchBooks_IndexNotBuilt_ReturnsServiceUnavailable() throws Exception {
+        //Given
+        when(bookSearchEngine.search(any(), any())).thenThrow(
+                new SearchIndexUnavailableException(
+                        "The search index is still being built, please retry shortly"));
+
+        //When
+        mockMvc.perform(
+                        get("/books/search")
+                                .param("title", "Sample Book 2")
+                )
+                //Then
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.booknest.controller;
+
+import static com.example.booknest.statement.StatementCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.booknest.dto.order.CreateOrderRequestDto;
+import com.example.booknest.dto.order.OrderDto;
+import com.example.booknest.dto.orderitem.OrderItemDto;
+import com.example.booknest.dto.shoppingcart.ShoppingCartDto;
+import com.example.booknest.model.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class OrderControllerTest {
+    private static MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll(
+            @Autowired DataSource dataSource,
+            @Autowired WebApplicationContext applicationContext) throws SQLException {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+        teardown(dataSource);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/delete-all-data-before-tests.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/books/insert-into-books.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/users/insert-into-users.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/shoppingcarts/insert-into-shopping_carts.sql"));
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    @SneakyThrows
+    static void teardown(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/orders/delete-all-from-orders.sql")
+            );
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/books/delete-all-from-books.sql")
+            );
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/shoppingcarts/delete-all-from-shopping_carts.sql")
+            );
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                            "database/users/delete-all-from-users.sql")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            Check out a cart in a fixed number of statements and leave the cart empty
+            """)
+    @WithUserDetails(value = "user@i.ua",
+            userDetailsServiceBeanName = "customUserDetailsService")
+    @Sql(
+            scripts = "classpath:database/cartitems/insert-checkout-cart_items.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(
+            scripts = "classpath:database/cartitems/delete-from-cart_items.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+    )
+    void createOrder_CartWithItems_BatchesOrderItemInserts() throws Exception {
+        //Given
+        String jsonRequest = objectMapper.writeValueAsString(
+                new CreateOrderRequestDto("Kyiv, Main street 1"));
+
+        //When
+        MvcResult result = assertMaxStatements(8, () -> mockMvc.perform(
+                        post("/orders")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isCreated())
+                .andReturn());
+
+        //Then
+        OrderDto actual = objectMapper.readValue(
+                result.getResponse()
+                        .getContentAsByteArray(), OrderDto.class
+        );
+        assertNotNull(actual.id());
+        assertEquals(Order.Status.PENDING, actual.status());
+        assertEquals(new BigDecimal("189.93"), actual.total());
+        assertEquals(Set.of(new OrderItemDto(1L, 1L, 1), new OrderItemDto(2L, 2L, 2),
+                new OrderItemDto(3L, 3L, 4)), actual.orderItems());
+        ShoppingCartDto cart = objectMapper.readValue(mockMvc.perform(get("/cart"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray(), ShoppingCartDto.class);
+        assertEquals(Set.of(), cart.getCartItems());
+    }
+}
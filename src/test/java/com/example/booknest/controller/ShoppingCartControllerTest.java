@@ -1,5 +1,6 @@
 package com.example.booknest.controller;
 
+import static com.example.booknest.statement.StatementCountAssertions.assertMaxStatements;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -112,12 +113,12 @@ public class ShoppingCartControllerTest {
         ShoppingCartDto expected = getShoppingCartDto();
 
         //When
-        MvcResult result = mockMvc.perform(
+        MvcResult result = assertMaxStatements(2, () -> mockMvc.perform(
                         get("/cart")
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andReturn();
+                .andReturn());
 
         //Then
         ShoppingCartDto actual = objectMapper.readValue(
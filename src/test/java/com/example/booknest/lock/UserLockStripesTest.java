@@ -0,0 +1,58 @@
+package com.example.booknest.lock;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.booknest.exception.ConcurrentUpdateException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UserLockStripesTest {
+    private UserLockStripes userLockStripes;
+
+    @BeforeEach
+    void setUp() {
+        userLockStripes = new UserLockStripes(16, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a second thread while the same user is locked
+            """)
+    void lock_SameUserOnOtherThread_ThrowsException() throws Exception {
+        //Given
+        userLockStripes.lock(2L);
+
+        //When
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> userLockStripes.lock(2L));
+
+        //Then
+        ExecutionException thrown = assertThrows(ExecutionException.class, other::get);
+        assertThrows(ConcurrentUpdateException.class, () -> {
+            throw thrown.getCause();
+        });
+        userLockStripes.unlock(2L);
+    }
+
+    @Test
+    @DisplayName("""
+            Let other users and reentrant calls of the same user proceed
+            """)
+    void lock_OtherUserAndReentrantCall_Succeeds() {
+        //Given
+        userLockStripes.lock(2L);
+
+        //Then
+        assertDoesNotThrow(() -> userLockStripes.lock(2L));
+        assertDoesNotThrow(() -> CompletableFuture.runAsync(() -> {
+            userLockStripes.lock(3L);
+            userLockStripes.unlock(3L);
+        }).get());
+        userLockStripes.unlock(2L);
+        userLockStripes.unlock(2L);
+    }
+}
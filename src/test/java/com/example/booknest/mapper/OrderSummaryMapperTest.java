@@ -0,0 +1,70 @@
+package com.example.booknest.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.booknest.dto.order.OrderDto;
+import com.example.booknest.dto.orderitem.OrderItemDto;
+import com.example.booknest.mapper.impl.OrderSummaryMapperImpl;
+import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderItem;
+import com.example.booknest.model.OrderSummary;
+import com.example.booknest.model.User;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OrderSummaryMapperTest {
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final OrderSummaryMapper orderSummaryMapper = new OrderSummaryMapperImpl();
+
+    @Test
+    @DisplayName("""
+            Encode line items sorted by book and decode them back to the order's items
+            """)
+    void toSummary_OrderWithItems_RoundTripsToOrderDto() {
+        //Given
+        Order order = new Order();
+        order.setId(1L);
+        order.setUser(new User().setId(10L));
+        order.setOrderDate(ORDER_DATE);
+        order.setStatus(Order.Status.PENDING);
+        order.setTotal(BigDecimal.valueOf(40));
+        order.setOrderItems(Set.of(orderItem(3L, 4), orderItem(1L, 1)));
+
+        //When
+        OrderSummary summary = orderSummaryMapper.toSummary(order);
+        final OrderDto actual = orderSummaryMapper.toDto(summary);
+
+        //Then
+        assertEquals("1:1,3:4", summary.getLineItems());
+        assertEquals(2, summary.getItemCount());
+        assertEquals(10L, summary.getUserId());
+        assertEquals(new OrderDto(1L, 10L, ORDER_DATE,
+                Set.of(new OrderItemDto(1L, 1L, 1), new OrderItemDto(3L, 3L, 4)),
+                Order.Status.PENDING, BigDecimal.valueOf(40)), actual);
+        assertEquals(List.of(1L, 3L), actual.orderItems().stream()
+                .map(OrderItemDto::bookId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("""
+            Decode a summary without line items to an empty set
+            """)
+    void decodeLineItems_Empty_ReturnsEmptySet() {
+        //Then
+        assertTrue(orderSummaryMapper.decodeLineItems("").isEmpty());
+    }
+
+    private static OrderItem orderItem(Long bookId, int quantity) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setId(bookId);
+        orderItem.setQuantity(quantity);
+        return orderItem;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.booknest.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ApplicationMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationMetrics applicationMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationMetrics = new ApplicationMetrics(meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("""
+            Record a checkout only after the transaction that placed the order commits
+            """)
+    void recordCheckout_Committed_RecordsLineItemsAndUnits() {
+        //When
+        applicationMetrics.recordCheckout(2, 5);
+
+        //Then
+        assertEquals(0, summary("booknest.checkout.line.items").count());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, summary("booknest.checkout.line.items").count());
+        assertEquals(2, summary("booknest.checkout.line.items").totalAmount());
+        assertEquals(5, summary("booknest.checkout.units").totalAmount());
+    }
+
+    @Test
+    @DisplayName("""
+            Skip the checkout when the transaction that placed the order rolls back
+            """)
+    void recordCheckout_RolledBack_RecordsNothing() {
+        //When
+        applicationMetrics.recordCheckout(2, 5);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        //Then
+        assertEquals(0, summary("booknest.checkout.line.items").count());
+        assertEquals(0, summary("booknest.checkout.units").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Time each bearer token authentication
+            """)
+    void timeJwtAuthentication_Runs_RecordsOneTiming() {
+        //When
+        applicationMetrics.timeJwtAuthentication(() -> {
+        });
+
+        //Then
+        assertEquals(1, meterRegistry.get("booknest.jwt.authentication").timer().count());
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name).summary();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.booknest.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.model.OrderOutboxEvent;
+import com.example.booknest.repository.order.OrderOutboxEventRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderOutboxRelayTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private OrderOutboxEventRepository orderOutboxEventRepository;
+    private InMemoryOrderEventSink orderEventSink;
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        orderEventSink = new InMemoryOrderEventSink();
+        orderOutboxRelay = relay(orderEventSink);
+    }
+
+    @Test
+    @DisplayName("""
+            Publish unpublished events in batches and mark them as published
+            """)
+    void relay_UnpublishedEvents_PublishesInBatches() {
+        //Given
+        when(orderOutboxEventRepository.findUnpublished(any())).thenReturn(
+                List.of(event(1L, OrderEventType.ORDER_CREATED),
+                        event(2L, OrderEventType.ORDER_STATUS_CHANGED)),
+                List.of(event(3L, OrderEventType.ORDER_CREATED)));
+
+        //When
+        orderOutboxRelay.relay();
+
+        //Then
+        assertEquals(List.of(1L, 2L, 3L), orderEventSink.drain().stream()
+                .map(OrderEvent::id)
+                .toList());
+        verify(orderOutboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(orderOutboxEventRepository).markPublished(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("""
+            Keep events unpublished and count the attempt when the sink fails
+            """)
+    void relay_SinkFails_KeepsEventsForRetry() {
+        //Given
+        OrderEventSink failingSink = mock(OrderEventSink.class);
+        doThrow(new IllegalStateException("Sink is down")).when(failingSink).publish(anyList());
+        when(orderOutboxEventRepository.findUnpublished(any())).thenReturn(
+                List.of(event(1L, OrderEventType.ORDER_CREATED)));
+
+        //When
+        relay(failingSink).relay();
+
+        //Then
+        verify(orderOutboxEventRepository).incrementAttempts(List.of(1L));
+        verify(orderOutboxEventRepository, never()).markPublished(anyList(), any());
+        assertTrue(orderEventSink.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            Publish one by one after a failed batch and hold back later events of the failed order
+            """)
+    void relay_PoisonEventInBatch_PublishesOtherOrdersOneByOne() {
+        //Given
+        OrderOutboxRelay relay = relay(events -> {
+            if (events.stream().anyMatch(event -> event.id() == 1L)) {
+                throw new IllegalStateException("Can't serialize event #1");
+            }
+            orderEventSink.publish(events);
+        });
+        when(orderOutboxEventRepository.findUnpublished(any())).thenReturn(List.of(
+                event(1L, OrderEventType.ORDER_CREATED),
+                event(2L, OrderEventType.ORDER_STATUS_CHANGED),
+                event(3L, OrderEventType.ORDER_CREATED).setOrderId(11L)));
+
+        //When
+        relay.relay();
+
+        //Then
+        assertEquals(List.of(3L), orderEventSink.drain().stream()
+                .map(OrderEvent::id)
+                .toList());
+        verify(orderOutboxEventRepository).markPublished(eq(List.of(3L)), any());
+        verify(orderOutboxEventRepository).incrementAttempts(List.of(1L));
+        verify(orderOutboxEventRepository, never()).park(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            Park an event once it has failed max-attempts times so it stops blocking its order
+            """)
+    void relay_AttemptsExhausted_ParksEvent() {
+        //Given
+        OrderEventSink failingSink = mock(OrderEventSink.class);
+        doThrow(new IllegalStateException("Sink is down")).when(failingSink).publish(anyList());
+        when(orderOutboxEventRepository.findUnpublished(any())).thenReturn(List.of(
+                event(1L, OrderEventType.ORDER_CREATED).setAttempts(2),
+                event(2L, OrderEventType.ORDER_CREATED).setOrderId(11L)));
+
+        //When
+        relay(failingSink).relay();
+
+        //Then
+        verify(orderOutboxEventRepository).incrementAttempts(List.of(1L, 2L));
+        verify(orderOutboxEventRepository).park(eq(List.of(1L)), any());
+        verify(orderOutboxEventRepository, never()).markPublished(anyList(), any());
+    }
+
+    private OrderOutboxRelay relay(OrderEventSink sink) {
+        return new OrderOutboxRelay(orderOutboxEventRepository, sink,
+                mock(PlatformTransactionManager.class), 2, 3, Duration.ofDays(7));
+    }
+
+    private static OrderOutboxEvent event(Long id, OrderEventType type) {
+        return new OrderOutboxEvent()
+                .setId(id)
+                .setOrderId(10L)
+                .setType(type)
+                .setPayload("{\"orderId\":10}")
+                .setCreatedAt(CREATED_AT);
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.booknest.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.book.BookSearchParametersDto;
+import com.example.booknest.dto.facet.AuthorFacetDto;
+import com.example.booknest.dto.facet.BookFacetSearchParametersDto;
+import com.example.booknest.dto.facet.BookFacetSearchResultDto;
+import com.example.booknest.dto.facet.CategoryFacetDto;
+import com.example.booknest.dto.facet.PriceBandFacetDto;
+import com.example.booknest.exception.InvalidSearchParametersException;
+import com.example.booknest.exception.SearchIndexUnavailableException;
+import com.example.booknest.mapper.BookMapper;
+import com.example.booknest.model.Book;
+import com.example.booknest.repository.book.BookRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class BookSearchEngineTest {
+    private static final Pageable PAGEABLE = PageRequest.of(0, 5, Sort.by("title"));
+
+    @InjectMocks
+    private BookSearchEngine bookSearchEngine;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private BookMapper bookMapper;
+
+    @BeforeEach
+    void setUp() {
+        List<Book> books = List.of(new Book(), new Book());
+        when(bookRepository.findAllWithCategories()).thenReturn(books);
+        when(bookMapper.toDtoList(books)).thenReturn(getBookDtoList());
+        ReflectionTestUtils.setField(bookSearchEngine, "priceBands",
+                List.of(BigDecimal.valueOf(20), BigDecimal.valueOf(40)));
+        ReflectionTestUtils.setField(bookSearchEngine, "maxAuthors", 10);
+        bookSearchEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("""
+            Search by title ignores case, punctuation and word order
+            """)
+    void search_CaseFoldedTitleTokens_ReturnsMatchingBooks() {
+        //Given
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                "KOTLIN, in action", null, null);
+
+        //When
+        List<BookDto> actual = bookSearchEngine.search(params, PAGEABLE);
+
+        //Then
+        assertEquals(List.of(getBookDtoList().get(1)), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Search by isbn ignores hyphens and combines with author
+            """)
+    void search_IsbnAndAuthor_ReturnsMatchingBook() {
+        //Given
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                null, "bloch", "9780134685991");
+
+        //When
+        List<BookDto> actual = bookSearchEngine.search(params, PAGEABLE);
+
+        //Then
+        assertEquals(List.of(getBookDtoList().get(0)), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Search reflects incremental updates and removals
+            """)
+    void search_AfterIndexAndRemove_ReturnsUpdatedResults() {
+        //Given
+        BookDto renamed = getBookDtoList().get(1).setTitle("Effective Kotlin");
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                "effective", null, null);
+
+        //When
+        bookSearchEngine.index(renamed);
+        bookSearchEngine.remove(1L);
+        List<BookDto> actual = bookSearchEngine.search(params, PAGEABLE);
+
+        //Then
+        assertEquals(List.of(renamed), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Search sorts titles ignoring case and accents like the database collation
+            """)
+    void search_SortByTitle_ReturnsCollatedOrder() {
+        //Given
+        List<String> titles = List.of(
+                "Fudge recipes", "Éclair recipes", "Banana recipes", "apple recipes");
+        for (int i = 0; i < titles.size(); i++) {
+            bookSearchEngine.index(new BookDto()
+                    .setId(10L + i)
+                    .setTitle(titles.get(i))
+                    .setAuthor("Mary Berry"));
+        }
+        BookSearchParametersDto params = new BookSearchParametersDto("recipes", null, null);
+
+        //When
+        List<BookDto> actual = bookSearchEngine.search(params, PAGEABLE);
+
+        //Then
+        assertEquals(List.of("apple recipes", "Banana recipes", "Éclair recipes",
+                "Fudge recipes"), actual.stream().map(BookDto::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("""
+            Search returns no books when nothing matches instead of asking the database
+            """)
+    void search_NoMatch_ReturnsEmptyList() {
+        //Given
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                "scala", null, null);
+
+        //When
+        List<BookDto> actual = bookSearchEngine.search(params, PAGEABLE);
+
+        //Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            Search rejects unknown sorts and parameters without letters or digits
+            """)
+    void search_PunctuationOnlyOrUnsupportedSort_ThrowsException() {
+        //Given
+        BookSearchParametersDto punctuationOnly = new BookSearchParametersDto(
+                "?!", null, null);
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                "java", null, null);
+        Pageable unsupportedSort = PageRequest.of(0, 5, Sort.by("description"));
+
+        //Then
+        assertThrows(InvalidSearchParametersException.class,
+                () -> bookSearchEngine.search(punctuationOnly, PAGEABLE));
+        assertThrows(InvalidSearchParametersException.class,
+                () -> bookSearchEngine.search(params, unsupportedSort));
+    }
+
+    @Test
+    @DisplayName("""
+            Fuzzy search matches misspelled and transposed title and author words
+            """)
+    void fuzzySearch_MisspelledWords_ReturnsMatchingBooks() {
+        //Given
+        BookSearchParametersDto misspelledTitle = new BookSearchParametersDto(
+                "kotiln in acton", null, null);
+        BookSearchParametersDto misspelledAuthor = new BookSearchParametersDto(
+                "efective", "jsohua bloc", null);
+
+        //Then
+        assertEquals(List.of(getBookDtoList().get(1)),
+                bookSearchEngine.fuzzySearch(misspelledTitle, PAGEABLE));
+        assertEquals(List.of(getBookDtoList().get(0)),
+                bookSearchEngine.fuzzySearch(misspelledAuthor, PAGEABLE));
+        assertTrue(bookSearchEngine.fuzzySearch(
+                new BookSearchParametersDto("scala", null, null), PAGEABLE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            Fuzzy search ranks closer matches before the requested sort order
+            """)
+    void fuzzySearch_SeveralMatches_ReturnsClosestFirst() {
+        //Given
+        BookDto effectiveKotlin = new BookDto()
+                .setId(3L)
+                .setTitle("Effective Kotlin")
+                .setAuthor("Marcin Moskala");
+        BookDto misspelledKotlin = new BookDto()
+                .setId(4L)
+                .setTitle("Efective Kotlin")
+                .setAuthor("Marcin Moskala");
+        bookSearchEngine.index(effectiveKotlin);
+        bookSearchEngine.index(misspelledKotlin);
+
+        //Then
+        assertEquals(List.of(3L, 4L), bookSearchEngine.fuzzySearch(
+                new BookSearchParametersDto("effective kotlin", null, null), PAGEABLE).stream()
+                .map(BookDto::getId)
+                .toList());
+        assertEquals(List.of(4L, 1L, 3L), bookSearchEngine.fuzzySearch(
+                new BookSearchParametersDto("efective", null, null), PAGEABLE).stream()
+                .map(BookDto::getId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("""
+            Faceted search counts every facet over the whole catalog without filters
+            """)
+    void facetedSearch_NoFilters_ReturnsAllBooksAndCounts() {
+        //Given
+        BookFacetSearchParametersDto params = new BookFacetSearchParametersDto(
+                null, null, null, null, null, null, null);
+
+        //When
+        BookFacetSearchResultDto actual = bookSearchEngine.facetedSearch(params, PAGEABLE);
+
+        //Then
+        assertEquals(getBookDtoList(), actual.books());
+        assertEquals(2, actual.totalElements());
+        assertEquals(List.of(new CategoryFacetDto(1L, 2), new CategoryFacetDto(2L, 1)),
+                actual.categories());
+        assertEquals(List.of(new AuthorFacetDto("Dmitry Jemerov", 1),
+                new AuthorFacetDto("Joshua Bloch", 1)), actual.authors());
+        assertEquals(List.of(
+                new PriceBandFacetDto(BigDecimal.ZERO, BigDecimal.valueOf(20), 0),
+                new PriceBandFacetDto(BigDecimal.valueOf(20), BigDecimal.valueOf(40), 1),
+                new PriceBandFacetDto(BigDecimal.valueOf(40), null, 1)), actual.priceBands());
+    }
+
+    @Test
+    @DisplayName("""
+            Faceted search counts each facet with every filter except its own
+            """)
+    void facetedSearch_CategoryAndPriceFilters_ReturnsDisjunctiveCounts() {
+        //Given
+        BookFacetSearchParametersDto params = new BookFacetSearchParametersDto(
+                null, null, null, Set.of(2L), null,
+                BigDecimal.valueOf(20), BigDecimal.valueOf(40));
+
+        //When
+        BookFacetSearchResultDto actual = bookSearchEngine.facetedSearch(params, PAGEABLE);
+
+        //Then
+        assertEquals(List.of(getBookDtoList().get(1)), actual.books());
+        assertEquals(List.of(new CategoryFacetDto(1L, 1), new CategoryFacetDto(2L, 1)),
+                actual.categories());
+        assertEquals(List.of(new AuthorFacetDto("Dmitry Jemerov", 1)), actual.authors());
+        assertEquals(List.of(0L, 1L, 0L), actual.priceBands().stream()
+                .map(PriceBandFacetDto::count)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("""
+            Faceted search rejects an inverted price range
+            """)
+    void facetedSearch_MinPriceAboveMaxPrice_ThrowsException() {
+        //Given
+        BookFacetSearchParametersDto params = new BookFacetSearchParametersDto(
+                null, null, null, null, null, BigDecimal.TEN, BigDecimal.ONE);
+
+        //Then
+        assertThrows(InvalidSearchParametersException.class,
+                () -> bookSearchEngine.facetedSearch(params, PAGEABLE));
+    }
+
+    @Test
+    @DisplayName("""
+            Faceted search includes books priced exactly at the max price
+            """)
+    void facetedSearch_MaxPriceEqualsBookPrice_IncludesBook() {
+        //Given
+        BookFacetSearchParametersDto params = new BookFacetSearchParametersDto(
+                null, null, null, null, null, null, BigDecimal.valueOf(39.99));
+
+        //When
+        BookFacetSearchResultDto actual = bookSearchEngine.facetedSearch(params, PAGEABLE);
+
+        //Then
+        assertEquals(List.of(getBookDtoList().get(1)), actual.books());
+    }
+
+    @Test
+    @DisplayName("""
+            Index-only searches fail fast instead of building the index on the request thread
+            """)
+    void fuzzySearch_IndexNotBuilt_ThrowsException() {
+        //Given
+        BookSearchEngine notBuilt = new BookSearchEngine(bookRepository, bookMapper);
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                "java", null, null);
+
+        //Then
+        assertThrows(SearchIndexUnavailableException.class,
+                () -> notBuilt.fuzzySearch(params, PAGEABLE));
+    }
+
+    private List<BookDto> getBookDtoList() {
+        return List.of(
+                new BookDto()
+                        .setId(1L)
+                        .setTitle("Effective Java")
+                        .setAuthor("Joshua Bloch")
+                        .setIsbn("978-0-13-468599-1")
+                        .setPrice(BigDecimal.valueOf(45.99))
+                        .setCategoryIds(Set.of(1L)),
+                new BookDto()
+                        .setId(2L)
+                        .setTitle("Kotlin in Action")
+                        .setAuthor("Dmitry Jemerov")
+                        .setIsbn("978-1-61729-329-0")
+                        .setPrice(BigDecimal.valueOf(39.99))
+                        .setCategoryIds(Set.of(1L, 2L)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.booknest.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import com.example.booknest.dto.suggestion.SuggestionType;
+import com.example.booknest.repository.book.BookLabel;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.orderitem.BookSales;
+import com.example.booknest.repository.orderitem.OrderItemRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookSuggesterTest {
+    @InjectMocks
+    private BookSuggester bookSuggester;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.findAllLabels()).thenReturn(List.of(
+                new BookLabel(1L, "Effective Java", "Joshua Bloch"),
+                new BookLabel(2L, "Java Concurrency in Practice", "Brian Goetz"),
+                new BookLabel(3L, "Java Puzzlers", "Joshua Bloch"),
+                new BookLabel(4L, "Kotlin in Action", "Dmitry Jemerov")));
+        when(orderItemRepository.sumQuantityByBook()).thenReturn(List.of(
+                new BookSales(2L, 7L),
+                new BookSales(3L, 2L)));
+        bookSuggester.rebuild();
+    }
+
+    @Test
+    @DisplayName("""
+            Suggest titles containing a word with the prefix, best sellers first
+            """)
+    void suggest_WordPrefix_ReturnsTitlesBySales() {
+        //When
+        List<BookSuggestionDto> actual = bookSuggester.suggest("JAV", 5);
+
+        //Then
+        assertEquals(List.of(
+                new BookSuggestionDto("Java Concurrency in Practice", SuggestionType.TITLE, 2L),
+                new BookSuggestionDto("Java Puzzlers", SuggestionType.TITLE, 3L),
+                new BookSuggestionDto("Effective Java", SuggestionType.TITLE, 1L)), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Suggest authors weighted by the sales of all their books
+            """)
+    void suggest_AuthorPrefix_ReturnsAuthorWithCombinedSales() {
+        //When
+        List<BookSuggestionDto> actual = bookSuggester.suggest("bloch", 5);
+
+        //Then
+        assertEquals(List.of(
+                new BookSuggestionDto("Joshua Bloch", SuggestionType.AUTHOR, null)), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Keep only the top suggestions and match multi-word prefixes
+            """)
+    void suggest_LimitAndPhrasePrefix_ReturnsTopMatches() {
+        //Then
+        assertEquals(1, bookSuggester.suggest("j", 1).size());
+        assertEquals(List.of(
+                new BookSuggestionDto("Kotlin in Action", SuggestionType.TITLE, 4L)),
+                bookSuggester.suggest("in act", 5));
+        assertTrue(bookSuggester.suggest("scala", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            Reflect renamed and removed books in suggestions
+            """)
+    void suggest_AfterIndexAndRemove_ReturnsUpdatedSuggestions() {
+        //Given
+        BookDto renamed = new BookDto()
+                .setId(4L)
+                .setTitle("Kotlin Coroutines")
+                .setAuthor("Dmitry Jemerov");
+
+        //When
+        bookSuggester.index(renamed);
+        bookSuggester.remove(1L);
+        bookSuggester.remove(3L);
+
+        //Then
+        assertEquals(List.of(
+                new BookSuggestionDto("Kotlin Coroutines", SuggestionType.TITLE, 4L)),
+                bookSuggester.suggest("kotlin", 5));
+        assertTrue(bookSuggester.suggest("in action", 5).isEmpty());
+        assertTrue(bookSuggester.suggest("joshua", 5).isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.booknest.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.book.BookDto;
+import com.example.booknest.repository.book.BookCategoryLink;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.book.BookTitle;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryBookIndexTest {
+    private static final Pageable BY_TITLE = PageRequest.of(0, 5, Sort.by("title"));
+    private static final Sort BY_TITLE_DESC = Sort.by("title").descending();
+
+    @InjectMocks
+    private CategoryBookIndex categoryBookIndex;
+    @Mock
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.findAllTitles()).thenReturn(List.of(
+                new BookTitle(1L, "Effective Java"),
+                new BookTitle(2L, "Kotlin in Action"),
+                new BookTitle(3L, "clean code"),
+                new BookTitle(4L, "Domain-Driven Design")));
+        when(bookRepository.findAllCategoryLinks()).thenReturn(List.of(
+                new BookCategoryLink(1L, 1L),
+                new BookCategoryLink(2L, 1L),
+                new BookCategoryLink(3L, 1L),
+                new BookCategoryLink(3L, 2L),
+                new BookCategoryLink(4L, 2L)));
+        categoryBookIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("""
+            Page category books in case-insensitive title order
+            """)
+    void findBookIds_SingleCategory_ReturnsPageOrderedByTitle() {
+        //When
+        Optional<List<Long>> firstPage = categoryBookIndex.findBookIds(
+                List.of(1L), CategoryMatch.ALL, PageRequest.of(0, 2, Sort.by("title")));
+        Optional<List<Long>> lastPage = categoryBookIndex.findBookIds(
+                List.of(1L), CategoryMatch.ALL, PageRequest.of(1, 2, Sort.by("title")));
+
+        //Then
+        assertEquals(Optional.of(List.of(3L, 1L)), firstPage);
+        assertEquals(Optional.of(List.of(2L)), lastPage);
+    }
+
+    @Test
+    @DisplayName("""
+            Order titles accent- and case-insensitively and page them in reverse
+            """)
+    void findBookIds_AccentedTitlesDescending_FollowsCollation() {
+        //Given
+        categoryBookIndex.index(new BookDto()
+                .setId(5L)
+                .setTitle("Élements of Style")
+                .setCategoryIds(Set.of(1L)));
+
+        //When
+        Optional<List<Long>> firstPage = categoryBookIndex.findBookIds(
+                List.of(1L), CategoryMatch.ALL, PageRequest.of(0, 2, BY_TITLE_DESC));
+        Optional<List<Long>> secondPage = categoryBookIndex.findBookIds(
+                List.of(1L), CategoryMatch.ALL, PageRequest.of(1, 2, BY_TITLE_DESC));
+        Optional<List<Long>> shortLastPage = categoryBookIndex.findBookIds(
+                List.of(1L), CategoryMatch.ALL, PageRequest.of(1, 3, BY_TITLE_DESC));
+
+        //Then
+        assertEquals(Optional.of(List.of(2L, 5L)), firstPage);
+        assertEquals(Optional.of(List.of(1L, 3L)), secondPage);
+        assertEquals(Optional.of(List.of(3L)), shortLastPage);
+    }
+
+    @Test
+    @DisplayName("""
+            Combine categories with ALL as intersection and ANY as union
+            """)
+    void findBookIds_MultipleCategories_AppliesMatchMode() {
+        //When
+        Optional<List<Long>> all = categoryBookIndex.findBookIds(
+                List.of(1L, 2L), CategoryMatch.ALL, BY_TITLE);
+        Optional<List<Long>> any = categoryBookIndex.findBookIds(
+                List.of(1L, 2L), CategoryMatch.ANY,
+                PageRequest.of(0, 5, Sort.by("id").descending()));
+
+        //Then
+        assertEquals(Optional.of(List.of(3L)), all);
+        assertEquals(Optional.of(List.of(4L, 3L, 2L, 1L)), any);
+    }
+
+    @Test
+    @DisplayName("""
+            Move a reindexed book to its new categories and drop removed books
+            """)
+    void index_ChangedAndRemovedBooks_UpdatesMembershipAndCounts() {
+        //Given
+        BookDto movedBook = new BookDto()
+                .setId(1L)
+                .setTitle("Effective Java")
+                .setCategoryIds(Set.of(2L));
+
+        //When
+        categoryBookIndex.index(movedBook);
+        categoryBookIndex.remove(4L);
+
+        //Then
+        assertEquals(Optional.of(Map.of(1L, 2L, 2L, 2L)), categoryBookIndex.countBooksByCategory());
+        assertEquals(Optional.of(List.of(3L, 1L)), categoryBookIndex.findBookIds(
+                List.of(2L), CategoryMatch.ALL, BY_TITLE));
+    }
+
+    @Test
+    @DisplayName("""
+            Fall back to the database for sort orders the index does not keep
+            """)
+    void findBookIds_UnsupportedSort_ReturnsEmpty() {
+        //When
+        Optional<List<Long>> actual = categoryBookIndex.findBookIds(
+                List.of(1L), CategoryMatch.ALL, PageRequest.of(0, 5, Sort.by("price")));
+
+        //Then
+        assertTrue(actual.isEmpty());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.booknest.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.booknest.dto.suggestion.BookSuggestionDto;
+import com.example.booknest.dto.suggestion.SuggestionType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SuggestionTrieTest {
+    private static final BookSuggestionDto JAVA = title("Java", 1L);
+    private static final BookSuggestionDto JAVASCRIPT = title("JavaScript Patterns", 2L);
+    private static final BookSuggestionDto JAVA_PUZZLERS = title("Java Puzzlers", 3L);
+
+    @Test
+    @DisplayName("""
+            Split shared prefixes and keep every entry reachable by word prefix
+            """)
+    void complete_OverlappingTitles_ReturnsEntriesBelowPrefix() {
+        //Given
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put("1", JAVA, 1);
+        trie.put("2", JAVASCRIPT, 3);
+        trie.put("3", JAVA_PUZZLERS, 2);
+
+        //Then
+        assertEquals(List.of(JAVASCRIPT, JAVA_PUZZLERS, JAVA), trie.complete("ja", 5));
+        assertEquals(List.of(JAVA_PUZZLERS), trie.complete("java ", 5));
+        assertEquals(List.of(JAVA_PUZZLERS), trie.complete("puzz", 5));
+        assertEquals(List.of(JAVASCRIPT), trie.complete("javas", 5));
+        assertTrue(trie.complete("javaz", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            Merge edges back after removal without losing the remaining entries
+            """)
+    void complete_AfterRemove_ReturnsRemainingEntries() {
+        //Given
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put("1", JAVA, 1);
+        trie.put("2", JAVASCRIPT, 3);
+        trie.put("3", JAVA_PUZZLERS, 2);
+
+        //When
+        trie.remove("1");
+        trie.remove("3");
+
+        //Then
+        assertEquals(List.of(JAVASCRIPT), trie.complete("java", 5));
+        assertEquals(List.of(JAVASCRIPT), trie.complete("javascript pat", 5));
+        assertTrue(trie.complete("puzz", 5).isEmpty());
+    }
+
+    private static BookSuggestionDto title(String text, Long bookId) {
+        return new BookSuggestionDto(text, SuggestionType.TITLE, bookId);
+    }
+}
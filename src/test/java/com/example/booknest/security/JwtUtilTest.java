@@ -0,0 +1,80 @@
+package com.example.booknest.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JwtUtilTest {
+    private static final String SECRET = "secret1234567890word0987654321qwerty";
+    private static final String USERNAME = "user@i.ua";
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+    }
+
+    @Test
+    @DisplayName("""
+            Verify a freshly generated token and reuse the cached claims
+            """)
+    void verify_ValidToken_ReturnsCachedClaims() {
+        //Given
+        String token = jwtUtil.generateToken(USERNAME);
+
+        //When
+        Claims first = jwtUtil.verify(token);
+        Claims second = jwtUtil.verify(token);
+
+        //Then
+        assertEquals(USERNAME, first.getSubject());
+        assertEquals(USERNAME, jwtUtil.getUsername(token));
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("""
+            Verify a token with a tampered signature
+            """)
+    void verify_TamperedToken_ThrowsException() {
+        //Given
+        String token = jwtUtil.generateToken(USERNAME);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        //Then
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("""
+            Verify a token signed with a different secret
+            """)
+    void verify_ForeignSecret_ThrowsException() {
+        //Given
+        JwtUtil foreignJwtUtil = new JwtUtil(SECRET.toUpperCase(), 60_000L, 100);
+        String token = foreignJwtUtil.generateToken(USERNAME);
+
+        //Then
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("""
+            Verify an expired token
+            """)
+    void verify_ExpiredToken_ThrowsException() {
+        //Given
+        JwtUtil expiringJwtUtil = new JwtUtil(SECRET, -60_000L, 100);
+        String token = expiringJwtUtil.generateToken(USERNAME);
+
+        //Then
+        assertThrows(JwtException.class, () -> jwtUtil.isValidToken(token));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.booknest.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.model.User;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class PrincipalCacheInvalidatorTest {
+    private static final String EMAIL = "user@i.ua";
+    private UserPrincipalCache userPrincipalCache;
+    private PrincipalCacheInvalidator principalCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = mock(UserPrincipalCache.class);
+        principalCacheInvalidator = new PrincipalCacheInvalidator(null, userPrincipalCache);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("""
+            Evict the principal only after the transaction that changed its roles commits
+            """)
+    void onPostUpdateCollection_RolesChanged_EvictsAfterCommit() {
+        //Given
+        PostCollectionUpdateEvent event = mock(PostCollectionUpdateEvent.class);
+        when(event.getAffectedOwnerOrNull()).thenReturn(new User().setEmail(EMAIL));
+
+        //When
+        principalCacheInvalidator.onPostUpdateCollection(event);
+
+        //Then
+        verify(userPrincipalCache, never()).evict(EMAIL);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        verify(userPrincipalCache).evict(EMAIL);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.booknest.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.model.Role;
+import com.example.booknest.model.User;
+import com.example.booknest.repository.user.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+public class UserPrincipalCacheTest {
+    private static final String EMAIL = "user@i.ua";
+    private UserRepository userRepository;
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userPrincipalCache = new UserPrincipalCache(
+                userRepository, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("""
+            Load the user once and serve detached principals from the snapshot
+            """)
+    void getPrincipal_RepeatedCalls_LoadsUserOnce() {
+        //Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(getUser()));
+
+        //When
+        User first = userPrincipalCache.getPrincipal(EMAIL);
+        User second = userPrincipalCache.getPrincipal(EMAIL);
+
+        //Then
+        assertNotSame(first, second);
+        assertEquals(2L, second.getId());
+        assertEquals(EMAIL, second.getUsername());
+        assertNull(second.getPassword());
+        assertEquals("ROLE_USER", second.getAuthorities().iterator().next().getAuthority());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("""
+            Reload the user after the cached snapshot was evicted
+            """)
+    void getPrincipal_AfterEvict_ReloadsUser() {
+        //Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(getUser()));
+        userPrincipalCache.getPrincipal(EMAIL);
+
+        //When
+        userPrincipalCache.evict(EMAIL);
+        userPrincipalCache.getPrincipal(EMAIL);
+
+        //Then
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("""
+            Throw an exception and cache nothing when the user does not exist
+            """)
+    void getPrincipal_UnknownEmail_ThrowsException() {
+        //Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        //When
+        Exception exception = assertThrows(UsernameNotFoundException.class,
+                () -> userPrincipalCache.getPrincipal(EMAIL));
+
+        //Then
+        assertEquals("Can't find user by email: " + EMAIL, exception.getMessage());
+        assertThrows(UsernameNotFoundException.class,
+                () -> userPrincipalCache.getPrincipal(EMAIL));
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("""
+            Do not keep a snapshot loaded before a concurrent evict
+            """)
+    void getPrincipal_EvictDuringLoad_ReloadsUser() throws Exception {
+        //Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicting = new CountDownLatch(1);
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            loading.countDown();
+            evicting.await(5, TimeUnit.SECONDS);
+            return Optional.of(getUser());
+        }).thenReturn(Optional.of(getUser()));
+        Thread loader = new Thread(() -> userPrincipalCache.getPrincipal(EMAIL));
+        loader.start();
+        loading.await(5, TimeUnit.SECONDS);
+
+        //When
+        Thread evictor = new Thread(() -> userPrincipalCache.evict(EMAIL));
+        evictor.start();
+        while (evictor.isAlive() && evictor.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        evicting.countDown();
+        loader.join(5000);
+        evictor.join(5000);
+        userPrincipalCache.getPrincipal(EMAIL);
+
+        //Then
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    private User getUser() {
+        Role role = new Role();
+        role.setId(1L);
+        role.setName(Role.RoleName.USER);
+        return new User()
+                .setId(2L)
+                .setEmail(EMAIL)
+                .setPassword("password")
+                .setFirstName("John")
+                .setLastName("Doe")
+                .setRoles(Set.of(role));
+    }
+}
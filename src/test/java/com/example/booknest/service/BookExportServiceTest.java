@@ -0,0 +1,97 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.mapper.impl.BookMapperImpl;
+import com.example.booknest.model.Book;
+import com.example.booknest.repository.book.BookCategoryLink;
+import com.example.booknest.repository.book.BookExportRepository;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.service.bookexport.BookExportFormat;
+import com.example.booknest.service.bookexport.BookExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class BookExportServiceTest {
+    private BookExportRepository bookExportRepository;
+    private BookRepository bookRepository;
+    private BookExportServiceImpl bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        bookExportRepository = mock(BookExportRepository.class);
+        bookRepository = mock(BookRepository.class);
+        bookExportService = new BookExportServiceImpl(bookExportRepository,
+                bookRepository, new BookMapperImpl(), new ObjectMapper());
+        ReflectionTestUtils.setField(bookExportService, "chunkSize", 2);
+        when(bookExportRepository.streamAllOrderById())
+                .thenReturn(Stream.of(getBook(1L, "Clean Code, 2nd"),
+                        getBook(2L, "Say \"Hello\""), getBook(3L, "Refactoring")));
+        when(bookRepository.findCategoryLinksByBookIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new BookCategoryLink(1L, 2L), new BookCategoryLink(1L, 1L)));
+        when(bookRepository.findCategoryLinksByBookIdIn(List.of(3L)))
+                .thenReturn(List.of(new BookCategoryLink(3L, 1L)));
+    }
+
+    @Test
+    @DisplayName("""
+            Export books as escaped CSV rows, looking up category ids once per chunk
+            """)
+    void exportBooks_Csv_WritesRowsPerChunk() throws Exception {
+        //Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //When
+        bookExportService.exportBooks(output, BookExportFormat.CSV);
+
+        //Then
+        assertEquals("""
+                id,title,author,isbn,price,description,coverImage,categoryIds
+                1,"Clean Code, 2nd",Author A,isbn-1,19.99,Description,http://example.com/1.jpg,1;2
+                2,"Say ""Hello""\",Author A,isbn-2,19.99,Description,http://example.com/2.jpg,
+                3,Refactoring,Author A,isbn-3,19.99,Description,http://example.com/3.jpg,1
+                """, output.toString(StandardCharsets.UTF_8));
+        verify(bookRepository).findCategoryLinksByBookIdIn(List.of(1L, 2L));
+        verify(bookRepository).findCategoryLinksByBookIdIn(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("""
+            Export books as one JSON object per line
+            """)
+    void exportBooks_Ndjson_WritesOneObjectPerLine() throws Exception {
+        //Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //When
+        bookExportService.exportBooks(output, BookExportFormat.NDJSON);
+
+        //Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(3L, new ObjectMapper().readTree(lines[2]).get("id").asLong());
+        assertEquals("[1]", new ObjectMapper().readTree(lines[2]).get("categoryIds").toString());
+    }
+
+    private Book getBook(Long id, String title) {
+        return new Book()
+                .setId(id)
+                .setTitle(title)
+                .setAuthor("Author A")
+                .setIsbn("isbn-" + id)
+                .setPrice(BigDecimal.valueOf(19.99))
+                .setDescription("Description")
+                .setCoverImage("http://example.com/" + id + ".jpg");
+    }
+}
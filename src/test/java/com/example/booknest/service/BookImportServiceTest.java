@@ -0,0 +1,217 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.dto.bookimport.BookImportErrorDto;
+import com.example.booknest.dto.bookimport.BookImportResultDto;
+import com.example.booknest.exception.BookImportException;
+import com.example.booknest.model.Category;
+import com.example.booknest.repository.category.CategoryRepository;
+import com.example.booknest.service.bookimport.BookImportServiceImpl;
+import com.example.booknest.service.bookimport.BookImportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+
+public class BookImportServiceTest {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final String CSV_HEADER =
+            "title,author,isbn,price,description,coverImage,categoryIds\n";
+    private BookImportWriter bookImportWriter;
+    private CategoryRepository categoryRepository;
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        bookImportWriter = mock(BookImportWriter.class);
+        categoryRepository = mock(CategoryRepository.class);
+        bookImportService = new BookImportServiceImpl(bookImportWriter, categoryRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), 2, 10);
+        when(categoryRepository.findAllById(anySet()))
+                .thenReturn(List.of(new Category().setId(1L), new Category().setId(2L)));
+    }
+
+    @Test
+    @DisplayName("""
+            Import quoted CSV rows in batches and report invalid rows by line
+            """)
+    @SuppressWarnings("unchecked")
+    void importBooks_CsvWithInvalidRows_WritesValidRowsInBatches() {
+        //Given
+        String csv = CSV_HEADER
+                + "\"Clean Code, 2nd\",Robert Martin,9780132350884,35.50,"
+                + "\"A handbook of \"\"agile\"\"\nsoftware craftsmanship\","
+                + "http://example.com/1.jpg,1;2\n"
+                + "Refactoring,Martin Fowler,9780134757599,abc,Improving existing code,"
+                + "http://example.com/2.jpg,1\n"
+                + "\n"
+                + "Effective Java,Joshua Bloch,9780134685991,45.00,Best practices guide,"
+                + "http://example.com/3.jpg,2\n"
+                + "Unknown Category,Someone,9780596009205,10.00,Some description here,"
+                + "http://example.com/4.jpg,9\n";
+
+        //When
+        BookImportResultDto actual = bookImportService.importBooks(toStream(csv), TEXT_CSV);
+
+        //Then
+        assertEquals(4, actual.processed());
+        assertEquals(2, actual.imported());
+        assertEquals(2, actual.failed());
+        assertEquals(List.of(
+                new BookImportErrorDto(4, "9780134757599", "Invalid price: abc"),
+                new BookImportErrorDto(7, "9780596009205", "Can't find category by id: 9")),
+                actual.errors());
+        ArgumentCaptor<Collection<CreateBookRequestDto>> batches =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(bookImportWriter, times(1)).write(batches.capture());
+        CreateBookRequestDto first = batches.getValue().iterator().next();
+        assertEquals("Clean Code, 2nd", first.title());
+        assertEquals("A handbook of \"agile\"\nsoftware craftsmanship", first.description());
+        assertEquals(new BigDecimal("35.50"), first.price());
+        assertEquals(Set.of(1L, 2L), first.categoryIds());
+    }
+
+    @Test
+    @DisplayName("""
+            Report malformed and constraint violating NDJSON lines
+            """)
+    void importBooks_NdjsonWithInvalidLines_ReportsErrors() {
+        //Given
+        String ndjson = """
+                {"title":"Effective Java","author":"Joshua Bloch","isbn":"9780134685991",\
+                "price":45.00,"description":"Best practices guide",\
+                "coverImage":"http://example.com/3.jpg","categoryIds":[2]}
+                {"title":"Broken",
+                {"title":"","author":"Joshua Bloch","isbn":"9780134685991",\
+                "price":45.00,"description":"Best practices guide",\
+                "coverImage":"http://example.com/3.jpg","categoryIds":[2]}
+                """;
+
+        //When
+        BookImportResultDto actual = bookImportService
+                .importBooks(toStream(ndjson), MediaType.APPLICATION_NDJSON);
+
+        //Then
+        assertEquals(3, actual.processed());
+        assertEquals(1, actual.imported());
+        assertEquals(2, actual.errors().get(0).line());
+        assertEquals("title Title may not be blank", actual.errors().get(1).message());
+        verify(bookImportWriter, times(1)).write(any());
+    }
+
+    @Test
+    @DisplayName("""
+            Report a repeated isbn in the same batch instead of importing it twice
+            """)
+    void importBooks_DuplicateIsbnInBatch_ReportsDuplicate() {
+        //Given
+        String csv = CSV_HEADER
+                + "Effective Java,Joshua Bloch,9780134685991,45.00,Best practices guide,"
+                + "http://example.com/3.jpg,2\n"
+                + "Effective Java 3rd,Joshua Bloch,9780134685991,49.00,Best practices guide,"
+                + "http://example.com/3.jpg,2\n";
+
+        //When
+        BookImportResultDto actual = bookImportService.importBooks(toStream(csv), TEXT_CSV);
+
+        //Then
+        assertEquals(1, actual.imported());
+        assertEquals(List.of(new BookImportErrorDto(3, "9780134685991",
+                "Duplicate isbn, already imported from line 2")), actual.errors());
+    }
+
+    @Test
+    @DisplayName("""
+            Report a repeated isbn from an earlier batch instead of importing it twice
+            """)
+    void importBooks_DuplicateIsbnAcrossBatches_ReportsDuplicate() {
+        //Given
+        String csv = CSV_HEADER
+                + "Effective Java,Joshua Bloch,9780134685991,45.00,Best practices guide,"
+                + "http://example.com/3.jpg,2\n"
+                + "Refactoring,Martin Fowler,9780134757599,39.99,Improving existing code,"
+                + "http://example.com/2.jpg,1\n"
+                + "Effective Java 3rd,Joshua Bloch,9780134685991,49.00,Best practices guide,"
+                + "http://example.com/3.jpg,2\n";
+
+        //When
+        BookImportResultDto actual = bookImportService.importBooks(toStream(csv), TEXT_CSV);
+
+        //Then
+        assertEquals(2, actual.imported());
+        assertEquals(List.of(new BookImportErrorDto(4, "9780134685991",
+                "Duplicate isbn, already imported from line 2")), actual.errors());
+        verify(bookImportWriter, times(1)).write(any());
+    }
+
+    @Test
+    @DisplayName("""
+            Retry a batch the database rejects row by row and report only the failing rows
+            """)
+    void importBooks_BatchRejectedByDatabase_ReportsFailingRows() {
+        //Given
+        String csv = CSV_HEADER
+                + "Effective Java,Joshua Bloch,9780134685991,45.00,Best practices guide,"
+                + "http://example.com/3.jpg,2\n"
+                + "Clean Code,Robert Martin,9780132350884,35.50,Agile craftsmanship,"
+                + "http://example.com/1.jpg,1\n";
+        DataIntegrityViolationException tooLong =
+                new DataIntegrityViolationException("Data too long for column 'title'");
+        doThrow(tooLong).when(bookImportWriter).write(argThat(books -> books.size() == 2));
+        doThrow(tooLong).when(bookImportWriter).write(argThat(books -> books.size() == 1
+                && books.iterator().next().isbn().equals("9780132350884")));
+
+        //When
+        BookImportResultDto actual = bookImportService.importBooks(toStream(csv), TEXT_CSV);
+
+        //Then
+        assertEquals(2, actual.processed());
+        assertEquals(1, actual.imported());
+        assertEquals(1, actual.failed());
+        assertEquals(List.of(new BookImportErrorDto(3, "9780132350884",
+                "Can't save book: Data too long for column 'title'")), actual.errors());
+        verify(bookImportWriter, times(3)).write(any());
+    }
+
+    @Test
+    @DisplayName("""
+            Reject CSV files without the required header columns
+            """)
+    void importBooks_CsvWithoutHeader_ThrowsException() {
+        //Given
+        InputStream csv = toStream("title,author\nClean Code,Robert Martin\n");
+
+        //Then
+        assertThrows(BookImportException.class,
+                () -> bookImportService.importBooks(csv, TEXT_CSV));
+        verify(bookImportWriter, never()).write(any());
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,8 +2,10 @@ package com.example.booknest.service;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -11,12 +13,18 @@ import com.example.booknest.dto.book.BookDto;
 import com.example.booknest.dto.book.BookDtoWithoutCategoryIds;
 import com.example.booknest.dto.book.BookSearchParametersDto;
 import com.example.booknest.dto.book.CreateBookRequestDto;
+import com.example.booknest.dto.pagination.CursorPageDto;
 import com.example.booknest.exception.EntityNotFoundException;
+import com.example.booknest.exception.InvalidCursorException;
 import com.example.booknest.mapper.BookMapper;
 import com.example.booknest.model.Book;
 import com.example.booknest.model.Category;
+import com.example.booknest.repository.book.BookCategoryLink;
 import com.example.booknest.repository.book.BookRepository;
-import com.example.booknest.repository.book.BookSpecificationBuilder;
+import com.example.booknest.search.BookSearchEngine;
+import com.example.booknest.search.BookSuggester;
+import com.example.booknest.search.CategoryBookIndex;
+import com.example.booknest.search.CategoryMatch;
 import com.example.booknest.service.book.BookServiceImpl;
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,7 +40,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 public class BookServiceTest {
@@ -43,7 +50,11 @@ public class BookServiceTest {
     @Mock
     private BookMapper bookMapper;
     @Mock
-    private BookSpecificationBuilder bookSpecificationBuilder;
+    private BookSearchEngine bookSearchEngine;
+    @Mock
+    private CategoryBookIndex categoryBookIndex;
+    @Mock
+    private BookSuggester bookSuggester;
 
     @Test
     @DisplayName("""
@@ -117,19 +128,68 @@ public class BookServiceTest {
         List<Book> bookList = List.of(firstBook, secondBook);
         Pageable pageable = PageRequest.of(0, 5);
         Page<Book> page = new PageImpl<>(bookList);
-        List<BookDto> expected = List.of(firstBookDto, secondBookDto);
 
         when(bookRepository.findAll(pageable)).thenReturn(page);
-        when(bookMapper.toDtoList(bookList)).thenReturn(expected);
+        when(bookRepository.findCategoryLinksByBookIdIn(List.of(1L, 2L)))
+                .thenReturn(getBookCategoryLinks());
+        when(bookMapper.toDtoWithCategoryIds(firstBook, Set.of(1L))).thenReturn(firstBookDto);
+        when(bookMapper.toDtoWithCategoryIds(secondBook, Set.of(1L))).thenReturn(secondBookDto);
 
         //When
         List<BookDto> actual = bookService.findAll(Pageable.ofSize(5));
 
         //Then
+        List<BookDto> expected = List.of(firstBookDto, secondBookDto);
         assertEquals(expected, actual);
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
+    @Test
+    @DisplayName("""
+            Find books by cursor returns a continuation cursor for the next page
+            """)
+    public void findAllByCursor_MoreRowsThanPageSize_ReturnsNextCursor() {
+        //Given
+        Book firstBook = getBookList().get(0);
+        Book secondBook = getBookList().get(1);
+        BookDto firstBookDto = getDtoFromBook(firstBook);
+        BookDto secondBookDto = getDtoFromBook(secondBook);
+
+        when(bookRepository.findAllOrderByTitleAndId(PageRequest.ofSize(2)))
+                .thenReturn(List.of(firstBook, secondBook));
+        when(bookRepository.findAllAfterTitleAndId(
+                firstBook.getTitle(), firstBook.getId(), PageRequest.ofSize(2)))
+                .thenReturn(List.of(secondBook));
+        when(bookRepository.findCategoryLinksByBookIdIn(List.of(1L)))
+                .thenReturn(List.of(getBookCategoryLinks().get(0)));
+        when(bookRepository.findCategoryLinksByBookIdIn(List.of(2L)))
+                .thenReturn(List.of(getBookCategoryLinks().get(1)));
+        when(bookMapper.toDtoWithCategoryIds(firstBook, Set.of(1L))).thenReturn(firstBookDto);
+        when(bookMapper.toDtoWithCategoryIds(secondBook, Set.of(1L))).thenReturn(secondBookDto);
+
+        //When
+        CursorPageDto<BookDto> firstPage = bookService.findAllByCursor(null, 1);
+        CursorPageDto<BookDto> secondPage = bookService.findAllByCursor(
+                firstPage.nextCursor(), 1);
+
+        //Then
+        assertEquals(List.of(firstBookDto), firstPage.content());
+        assertEquals(List.of(secondBookDto), secondPage.content());
+        assertNull(secondPage.nextCursor());
+        verifyNoMoreInteractions(bookRepository, bookMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Find books by cursor when the cursor is malformed
+            """)
+    public void findAllByCursor_MalformedCursor_ThrowsException() {
+        //Then
+        assertThrows(InvalidCursorException.class,
+                () -> bookService.findAllByCursor("not-a-cursor", 5));
+        verifyNoInteractions(bookRepository);
+    }
+
     @Test
     @DisplayName("""
             Find all books by category id when category id exists
@@ -156,6 +216,33 @@ public class BookServiceTest {
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
+    @Test
+    @DisplayName("""
+            Find books by category id from the category index in index order
+            """)
+    public void findAllBooksByCategoryId_IndexedCategory_HydratesOnlyPageBooks() {
+        //Given
+        Pageable pageable = PageRequest.of(0, 5);
+        Book firstBook = getBookList().get(0);
+        Book secondBook = getBookList().get(1);
+        BookDtoWithoutCategoryIds firstBookDto = getBookDtoWithoutCategoryIdsList().get(0);
+        BookDtoWithoutCategoryIds secondBookDto = getBookDtoWithoutCategoryIdsList().get(1);
+        when(categoryBookIndex.findBookIds(List.of(1L), CategoryMatch.ALL, pageable))
+                .thenReturn(Optional.of(List.of(2L, 1L)));
+        when(bookRepository.findAllById(List.of(2L, 1L)))
+                .thenReturn(List.of(firstBook, secondBook));
+        when(bookMapper.toDtoWithoutCategories(firstBook)).thenReturn(firstBookDto);
+        when(bookMapper.toDtoWithoutCategories(secondBook)).thenReturn(secondBookDto);
+
+        //When
+        List<BookDtoWithoutCategoryIds> actual =
+                bookService.findAllByCategoryId(1L, pageable);
+
+        //Then
+        assertEquals(List.of(secondBookDto, firstBookDto), actual);
+        verifyNoMoreInteractions(bookRepository, bookMapper);
+    }
+
     @Test
     @DisplayName("""
             Update book by id when book id exists
@@ -233,33 +320,29 @@ public class BookServiceTest {
 
     @Test
     @DisplayName("""
-            Search books with valid params when books exists
+            Search books with valid params when search index has matches
             """)
-    void searchBooks_ValidBookParams_ReturnsBookDtoList() {
+    void searchBooks_IndexedBookParams_ReturnsBookDtoListFromIndex() {
         //Given
-        Book firstBook = getBookList().get(0);
-        Book secondBook = getBookList().get(1);
-        List<Book> booksList = List.of(firstBook, secondBook);
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Book> page = new PageImpl<>(booksList);
         BookSearchParametersDto paramsDto = getBookSearchParametersDto();
-        Specification<Book> bookSpecification = bookSpecificationBuilder.build(paramsDto);
-        BookDto firstBookDto = getDtoFromBook(firstBook);
-        BookDto secondBookDto = getDtoFromBook(secondBook);
-        List<BookDto> expected = List.of(firstBookDto, secondBookDto);
+        List<BookDto> expected = List.of(getDtoFromBook(getBookList().get(0)));
 
-        when(bookSpecificationBuilder.build(paramsDto))
-                .thenReturn(bookSpecification);
-        when(bookRepository.findAll(bookSpecification, pageable))
-                .thenReturn(page);
-        when(bookMapper.toDtoList(booksList)).thenReturn(expected);
+        when(bookSearchEngine.search(paramsDto, pageable))
+                .thenReturn(expected);
 
         //When
         List<BookDto> actual = bookService.searchByParameters(paramsDto, pageable);
 
         //Then
         assertEquals(expected, actual);
-        verifyNoMoreInteractions(bookRepository, bookMapper);
+        verifyNoInteractions(bookRepository, bookMapper);
+    }
+
+    private List<BookCategoryLink> getBookCategoryLinks() {
+        return List.of(
+                new BookCategoryLink(1L, 1L),
+                new BookCategoryLink(2L, 1L));
     }
 
     private BookDto getDtoFromBook(Book book) {
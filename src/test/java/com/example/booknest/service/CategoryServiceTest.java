@@ -3,7 +3,10 @@ package com.example.booknest.service;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -11,11 +14,18 @@ import com.example.booknest.dto.category.CategoryDto;
 import com.example.booknest.dto.category.CreateCategoryRequestDto;
 import com.example.booknest.exception.EntityNotFoundException;
 import com.example.booknest.mapper.CategoryMapper;
+import com.example.booknest.model.Book;
 import com.example.booknest.model.Category;
+import com.example.booknest.repository.book.BookRepository;
 import com.example.booknest.repository.category.CategoryRepository;
+import com.example.booknest.search.CategoryBookIndex;
 import com.example.booknest.service.category.CategoryServiceImpl;
+import com.example.booknest.service.etag.EntityVersionCache;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +44,14 @@ public class CategoryServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private CategoryMapper categoryMapper;
+    @Mock
+    private CategoryBookIndex categoryBookIndex;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private EntityVersionCache entityVersionCache;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("""
@@ -175,6 +193,37 @@ public class CategoryServiceTest {
 
         //Then
         verify(categoryRepository).deleteById(category.getId());
+        verify(bookRepository, never()).incrementVersions(List.of());
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("""
+            Bump the versions of the category's books when the category is deleted
+            """)
+    void deleteCategory_CategoryWithBooks_IncrementsBookVersions() {
+        //Given
+        Category category = getCategoryList().get(0);
+        List<Long> bookIds = List.of(1L, 2L);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Cache cache = mock(Cache.class);
+
+        when(categoryRepository.findById(category.getId()))
+                .thenReturn(Optional.of(category));
+        when(bookRepository.findAllIdsByCategoryId(category.getId()))
+                .thenReturn(bookIds);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        //When
+        categoryService.deleteById(category.getId());
+
+        //Then
+        verify(bookRepository).incrementVersions(bookIds);
+        verify(categoryRepository).deleteById(category.getId());
+        verify(cache).evictCollectionData(Book.class.getName() + ".categories", 2L);
+        verify(entityVersionCache).evict(Book.class, 1L);
+        verify(entityVersionCache).evict(Book.class, 2L);
     }
 
     @Test
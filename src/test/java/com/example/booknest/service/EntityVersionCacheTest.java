@@ -0,0 +1,94 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.booknest.model.Book;
+import com.example.booknest.model.Category;
+import com.example.booknest.repository.EntityVersion;
+import com.example.booknest.service.etag.EntityTags;
+import com.example.booknest.service.etag.EntityVersionCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EntityVersionCacheTest {
+    private EntityVersionCache entityVersionCache;
+    private AtomicInteger loads;
+    private Function<Long, Optional<Long>> loader;
+
+    @BeforeEach
+    void setUp() {
+        entityVersionCache = new EntityVersionCache(Duration.ofMinutes(1), 100);
+        loads = new AtomicInteger();
+        loader = id -> Optional.of((long) loads.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("""
+            Load the version once and serve repeated lookups from the cache
+            """)
+    void getVersion_RepeatedCalls_LoadsVersionOnce() {
+        //When
+        Optional<Long> first = entityVersionCache.getVersion(Book.class, 1L, loader);
+        Optional<Long> second = entityVersionCache.getVersion(Book.class, 1L, loader);
+
+        //Then
+        assertEquals(Optional.of(1L), first);
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("""
+            Reload the version after the entity was evicted
+            """)
+    void getVersion_AfterEvict_ReloadsVersion() {
+        //Given
+        entityVersionCache.getVersion(Book.class, 1L, loader);
+        entityVersionCache.getVersion(Category.class, 1L, loader);
+
+        //When
+        entityVersionCache.evict(Book.class, 1L);
+
+        //Then
+        assertEquals(Optional.of(3L), entityVersionCache.getVersion(Book.class, 1L, loader));
+        assertEquals(Optional.of(2L), entityVersionCache.getVersion(Category.class, 1L, loader));
+    }
+
+    @Test
+    @DisplayName("""
+            Do not cache a missing entity
+            """)
+    void getVersion_MissingEntity_ReturnsEmpty() {
+        //When
+        Optional<Long> missing = entityVersionCache.getVersion(
+                Book.class, 99L, id -> Optional.empty());
+
+        //Then
+        assertTrue(missing.isEmpty());
+        assertEquals(Optional.of(1L), entityVersionCache.getVersion(Book.class, 99L, loader));
+    }
+
+    @Test
+    @DisplayName("""
+            Change the list tag when any version on the page changes
+            """)
+    void entityTag_ChangedVersion_ReturnsDifferentTag() {
+        //Given
+        List<EntityVersion> page = List.of(new EntityVersion(1L, 0L), new EntityVersion(2L, 0L));
+        List<EntityVersion> updated = List.of(new EntityVersion(1L, 0L), new EntityVersion(2L, 1L));
+
+        //Then
+        assertEquals("\"book-1-v0\"", EntityTags.of("book", 1L, 0L));
+        assertEquals(EntityTags.of("book", page), EntityTags.of("book", page));
+        assertNotEquals(EntityTags.of("book", page), EntityTags.of("book", updated));
+        assertNotEquals(EntityTags.of("book", page), EntityTags.of("category", page));
+    }
+}
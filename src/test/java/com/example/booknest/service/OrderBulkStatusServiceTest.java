@@ -0,0 +1,172 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.order.BulkUpdateOrderStatusRequestDto;
+import com.example.booknest.dto.order.BulkUpdateOrderStatusResponseDto;
+import com.example.booknest.dto.order.OrderStatusFilterDto;
+import com.example.booknest.dto.order.OrderStatusUpdateDto;
+import com.example.booknest.exception.OrderProcessingException;
+import com.example.booknest.model.Order;
+import com.example.booknest.outbox.OrderOutbox;
+import com.example.booknest.repository.order.OrderRepository;
+import com.example.booknest.repository.order.OrderStatusRow;
+import com.example.booknest.repository.order.OrderSummaryRepository;
+import com.example.booknest.service.order.OrderBulkStatusServiceImpl;
+import com.example.booknest.service.order.OrderBulkUpdateProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderBulkStatusServiceTest {
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+    @Mock
+    private OrderOutbox orderOutbox;
+    private OrderBulkStatusServiceImpl orderBulkStatusService;
+
+    @BeforeEach
+    void setUp() {
+        orderBulkStatusService = new OrderBulkStatusServiceImpl(orderRepository,
+                orderSummaryRepository, orderOutbox, new OrderBulkUpdateProperties(100, 2));
+    }
+
+    @Test
+    @DisplayName("""
+            Update allowed transitions in batches and report every order's outcome
+            """)
+    void updateOrderStatuses_Updates_AppliesAllowedTransitions() {
+        //Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(List.of(
+                new OrderStatusUpdateDto(1L, Order.Status.SHIPPING),
+                new OrderStatusUpdateDto(2L, Order.Status.SHIPPING),
+                new OrderStatusUpdateDto(3L, Order.Status.SHIPPING),
+                new OrderStatusUpdateDto(4L, Order.Status.DELIVERED),
+                new OrderStatusUpdateDto(5L, Order.Status.PENDING),
+                new OrderStatusUpdateDto(6L, Order.Status.SHIPPING)), null);
+        when(orderRepository.findStatusRowsByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new OrderStatusRow(1L, 10L, Order.Status.CONFIRMED),
+                new OrderStatusRow(2L, 10L, Order.Status.CONFIRMED)));
+        when(orderRepository.findStatusRowsByIdIn(List.of(3L, 4L))).thenReturn(List.of(
+                new OrderStatusRow(3L, 11L, Order.Status.CONFIRMED),
+                new OrderStatusRow(4L, 11L, Order.Status.DELIVERED)));
+        when(orderRepository.findStatusRowsByIdIn(List.of(5L, 6L))).thenReturn(List.of(
+                new OrderStatusRow(5L, 12L, Order.Status.CANCELED)));
+
+        //When
+        BulkUpdateOrderStatusResponseDto actual =
+                orderBulkStatusService.updateOrderStatuses(requestDto);
+
+        //Then
+        assertEquals(new BulkUpdateOrderStatusResponseDto(
+                List.of(1L, 2L, 3L), List.of(4L), List.of(6L), List.of(5L), false), actual);
+        verify(orderRepository).updateStatuses(List.of(1L, 2L), Order.Status.SHIPPING);
+        verify(orderRepository).updateStatuses(List.of(3L), Order.Status.SHIPPING);
+        verify(orderSummaryRepository).updateStatuses(List.of(3L), Order.Status.SHIPPING);
+        verify(orderOutbox).orderStatusChanged(
+                3L, 11L, Order.Status.CONFIRMED, Order.Status.SHIPPING);
+    }
+
+    @Test
+    @DisplayName("""
+            Lock the requested orders in id order whatever order they were requested in
+            """)
+    void updateOrderStatuses_UnsortedUpdates_LocksOrdersInIdOrder() {
+        //Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(List.of(
+                new OrderStatusUpdateDto(3L, Order.Status.SHIPPING),
+                new OrderStatusUpdateDto(1L, Order.Status.SHIPPING),
+                new OrderStatusUpdateDto(2L, Order.Status.SHIPPING)), null);
+
+        //When
+        orderBulkStatusService.updateOrderStatuses(requestDto);
+
+        //Then
+        InOrder lockOrder = inOrder(orderRepository);
+        lockOrder.verify(orderRepository).findStatusRowsByIdIn(List.of(1L, 2L));
+        lockOrder.verify(orderRepository).findStatusRowsByIdIn(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("""
+            Update every order matching the filter
+            """)
+    void updateOrderStatuses_Filter_UpdatesMatchingOrders() {
+        //Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(null,
+                new OrderStatusFilterDto(Order.Status.SHIPPING, null, Order.Status.DELIVERED));
+        when(orderRepository.findStatusRowsByStatus(
+                any(), any(), any())).thenReturn(List.of(
+                        new OrderStatusRow(7L, 10L, Order.Status.SHIPPING),
+                        new OrderStatusRow(8L, 11L, Order.Status.SHIPPING)));
+
+        //When
+        BulkUpdateOrderStatusResponseDto actual =
+                orderBulkStatusService.updateOrderStatuses(requestDto);
+
+        //Then
+        assertEquals(new BulkUpdateOrderStatusResponseDto(
+                List.of(7L, 8L), List.of(), List.of(), List.of(), false), actual);
+        verify(orderRepository).updateStatuses(List.of(7L, 8L), Order.Status.DELIVERED);
+        verify(orderSummaryRepository).updateStatuses(List.of(7L, 8L), Order.Status.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("""
+            Update at most max-orders matching orders and report that more remain
+            """)
+    void updateOrderStatuses_FilterMatchesMoreThanLimit_ReturnsTruncated() {
+        //Given
+        orderBulkStatusService = new OrderBulkStatusServiceImpl(orderRepository,
+                orderSummaryRepository, orderOutbox, new OrderBulkUpdateProperties(2, 2));
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(null,
+                new OrderStatusFilterDto(Order.Status.SHIPPING, null, Order.Status.DELIVERED));
+        when(orderRepository.findStatusRowsByStatus(
+                any(), any(), any())).thenReturn(List.of(
+                        new OrderStatusRow(7L, 10L, Order.Status.SHIPPING),
+                        new OrderStatusRow(8L, 11L, Order.Status.SHIPPING),
+                        new OrderStatusRow(9L, 12L, Order.Status.SHIPPING)));
+
+        //When
+        BulkUpdateOrderStatusResponseDto actual =
+                orderBulkStatusService.updateOrderStatuses(requestDto);
+
+        //Then
+        assertEquals(new BulkUpdateOrderStatusResponseDto(
+                List.of(7L, 8L), List.of(), List.of(), List.of(), true), actual);
+        verify(orderRepository).findStatusRowsByStatus(
+                Order.Status.SHIPPING, null, PageRequest.ofSize(3));
+        verify(orderRepository).updateStatuses(List.of(7L, 8L), Order.Status.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a request with both updates and a filter
+            """)
+    void updateOrderStatuses_UpdatesAndFilter_ThrowsException() {
+        //Given
+        BulkUpdateOrderStatusRequestDto requestDto = new BulkUpdateOrderStatusRequestDto(
+                List.of(new OrderStatusUpdateDto(1L, Order.Status.SHIPPING)),
+                new OrderStatusFilterDto(Order.Status.CONFIRMED, null, Order.Status.SHIPPING));
+
+        //Then
+        assertThrows(OrderProcessingException.class,
+                () -> orderBulkStatusService.updateOrderStatuses(requestDto));
+        verifyNoInteractions(orderRepository);
+    }
+}
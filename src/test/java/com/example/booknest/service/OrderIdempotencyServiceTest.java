@@ -0,0 +1,209 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.order.CreateOrderRequestDto;
+import com.example.booknest.dto.order.OrderDto;
+import com.example.booknest.exception.IdempotencyKeyInProgressException;
+import com.example.booknest.exception.IdempotencyKeyMismatchException;
+import com.example.booknest.exception.OrderProcessingException;
+import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderIdempotencyKey;
+import com.example.booknest.repository.order.OrderIdempotencyKeyRepository;
+import com.example.booknest.service.order.OrderIdempotencyServiceImpl;
+import com.example.booknest.service.order.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public class OrderIdempotencyServiceTest {
+    private static final Long USER_ID = 2L;
+    private static final Long RESERVATION_ID = 7L;
+    private static final String IDEMPOTENCY_KEY = "4b1c8f7e-checkout";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Pageable pageable = PageRequest.of(0, 5);
+    private final CreateOrderRequestDto requestDto = new CreateOrderRequestDto("Ukraine");
+    private OrderService orderService;
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private OrderIdempotencyServiceImpl orderIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        orderIdempotencyKeyRepository = mock(OrderIdempotencyKeyRepository.class);
+        orderIdempotencyService = new OrderIdempotencyServiceImpl(orderService,
+                orderIdempotencyKeyRepository, objectMapper, 100, 4,
+                Duration.ofDays(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("""
+            Create order once when the same idempotency key is retried
+            """)
+    void createOrder_RetriedKey_ReturnsStoredOrder() {
+        //Given
+        OrderDto expected = getOrderDto();
+        when(orderIdempotencyKeyRepository.saveAndFlush(any(OrderIdempotencyKey.class)))
+                .thenReturn(new OrderIdempotencyKey().setId(RESERVATION_ID));
+        when(orderService.createOrder(USER_ID, pageable, requestDto, RESERVATION_ID))
+                .thenReturn(expected);
+
+        //When
+        OrderDto first = orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto);
+        OrderDto retried = orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto);
+
+        //Then
+        assertEquals(expected, first);
+        assertEquals(expected, retried);
+        verify(orderIdempotencyKeyRepository, times(1))
+                .saveAndFlush(any(OrderIdempotencyKey.class));
+        verify(orderService, times(1))
+                .createOrder(USER_ID, pageable, requestDto, RESERVATION_ID);
+    }
+
+    @Test
+    @DisplayName("""
+            Return stored order when the key reservation is rejected as a duplicate
+            """)
+    void createOrder_CompletedKey_ReturnsStoredOrder() {
+        //Given
+        OrderDto expected = getOrderDto();
+        when(orderIdempotencyKeyRepository.saveAndFlush(any(OrderIdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(orderIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(
+                USER_ID, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(getStoredKey(OrderIdempotencyKey.Status.COMPLETED,
+                        hash(requestDto))));
+        when(orderService.findOrderByIdempotencyKey(USER_ID, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(expected));
+
+        //When
+        OrderDto actual = orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto);
+
+        //Then
+        assertEquals(expected, actual);
+        verify(orderService, never()).createOrder(any(), any(), any(), any(Long.class));
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a reserved key that is still being processed
+            """)
+    void createOrder_PendingKey_ThrowsInProgress() {
+        //Given
+        when(orderIdempotencyKeyRepository.saveAndFlush(any(OrderIdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(orderIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(
+                USER_ID, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(getStoredKey(OrderIdempotencyKey.Status.PENDING,
+                        hash(requestDto))));
+        when(orderService.findOrderByIdempotencyKey(USER_ID, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.empty());
+
+        //When
+        //Then
+        assertThrows(IdempotencyKeyInProgressException.class, () -> orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto));
+        verify(orderService, never()).createOrder(any(), any(), any(), any(Long.class));
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a stored key reused with a different request body
+            """)
+    void createOrder_StoredKeyDifferentBody_ThrowsMismatch() {
+        //Given
+        when(orderIdempotencyKeyRepository.saveAndFlush(any(OrderIdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(orderIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(
+                USER_ID, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(getStoredKey(OrderIdempotencyKey.Status.COMPLETED,
+                        hash(new CreateOrderRequestDto("Poland")))));
+
+        //When
+        //Then
+        assertThrows(IdempotencyKeyMismatchException.class, () -> orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto));
+        verify(orderService, never()).findOrderByIdempotencyKey(any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a retried key with a different request body
+            """)
+    void createOrder_RetriedKeyDifferentBody_ThrowsMismatch() {
+        //Given
+        when(orderIdempotencyKeyRepository.saveAndFlush(any(OrderIdempotencyKey.class)))
+                .thenReturn(new OrderIdempotencyKey().setId(RESERVATION_ID));
+        when(orderService.createOrder(USER_ID, pageable, requestDto, RESERVATION_ID))
+                .thenReturn(getOrderDto());
+        orderIdempotencyService.createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto);
+        CreateOrderRequestDto changedRequest = new CreateOrderRequestDto("Poland");
+
+        //When
+        //Then
+        assertThrows(IdempotencyKeyMismatchException.class, () -> orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, changedRequest));
+    }
+
+    @Test
+    @DisplayName("""
+            Release the key reservation when the checkout fails
+            """)
+    void createOrder_CheckoutFails_DeletesReservation() {
+        //Given
+        when(orderIdempotencyKeyRepository.saveAndFlush(any(OrderIdempotencyKey.class)))
+                .thenReturn(new OrderIdempotencyKey().setId(RESERVATION_ID));
+        when(orderService.createOrder(USER_ID, pageable, requestDto, RESERVATION_ID))
+                .thenThrow(new OrderProcessingException("Empty cart"));
+
+        //When
+        //Then
+        assertThrows(OrderProcessingException.class, () -> orderIdempotencyService
+                .createOrder(USER_ID, IDEMPOTENCY_KEY, pageable, requestDto));
+        verify(orderIdempotencyKeyRepository).deleteById(RESERVATION_ID);
+    }
+
+    private OrderIdempotencyKey getStoredKey(OrderIdempotencyKey.Status status,
+                                             String requestHash) {
+        return new OrderIdempotencyKey()
+                .setId(RESERVATION_ID)
+                .setUserId(USER_ID)
+                .setIdempotencyKey(IDEMPOTENCY_KEY)
+                .setStatus(status)
+                .setRequestHash(requestHash);
+    }
+
+    @SneakyThrows
+    private String hash(CreateOrderRequestDto createOrderDto) {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(objectMapper.writeValueAsBytes(createOrderDto)));
+    }
+
+    private OrderDto getOrderDto() {
+        return new OrderDto(1L, USER_ID, LocalDateTime.now(), Set.of(),
+                Order.Status.PENDING, BigDecimal.valueOf(19.99));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.order.CreateOrderRequestDto;
+import com.example.booknest.dto.order.UpdateOrderRequestDto;
+import com.example.booknest.mapper.OrderItemMapper;
+import com.example.booknest.mapper.OrderMapper;
+import com.example.booknest.mapper.OrderSummaryMapper;
+import com.example.booknest.mapper.impl.OrderSummaryMapperImpl;
+import com.example.booknest.metrics.ApplicationMetrics;
+import com.example.booknest.model.Book;
+import com.example.booknest.model.CartItem;
+import com.example.booknest.model.Order;
+import com.example.booknest.model.OrderItem;
+import com.example.booknest.model.OrderSummary;
+import com.example.booknest.model.ShoppingCart;
+import com.example.booknest.model.User;
+import com.example.booknest.outbox.OrderOutbox;
+import com.example.booknest.repository.cartitem.CartItemRepository;
+import com.example.booknest.repository.order.OrderRepository;
+import com.example.booknest.repository.order.OrderSummaryRepository;
+import com.example.booknest.repository.orderitem.OrderItemRepository;
+import com.example.booknest.repository.shoppingcart.ShoppingCartRepository;
+import com.example.booknest.service.order.OrderServiceImpl;
+import com.example.booknest.service.shoppingcart.ShoppingCartService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderServiceTest {
+    @InjectMocks
+    private OrderServiceImpl orderService;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+    @Mock
+    private OrderOutbox orderOutbox;
+    @Mock
+    private ShoppingCartRepository shoppingCartRepository;
+    @Mock
+    private ShoppingCartService shoppingCartService;
+    @Mock
+    private OrderItemMapper orderItemMapper;
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
+    private CartItemRepository cartItemRepository;
+    @Mock
+    private OrderMapper orderMapper;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private ApplicationMetrics applicationMetrics;
+    @Spy
+    private OrderSummaryMapper orderSummaryMapper = new OrderSummaryMapperImpl();
+
+    @Test
+    @DisplayName("""
+            Write the order summary together with the placed order
+            """)
+    void createOrder_CartWithItems_PersistsOrderSummary() {
+        //Given
+        ShoppingCart shoppingCart = new ShoppingCart()
+                .setId(10L)
+                .setUser(new User().setId(10L))
+                .setCartItems(new HashSet<>(Set.of(cartItem(1L, 20, 1), cartItem(3L, 5, 4))));
+        when(shoppingCartRepository.findWithCartItemsByUserId(10L))
+                .thenReturn(Optional.of(shoppingCart));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
+        when(orderItemMapper.toEntityFromCartItem(any())).thenAnswer(invocation -> {
+            CartItem cartItem = invocation.getArgument(0);
+            OrderItem orderItem = new OrderItem();
+            orderItem.setId(cartItem.getBook().getId());
+            orderItem.setQuantity(cartItem.getQuantity());
+            return orderItem;
+        });
+
+        //When
+        orderService.createOrder(10L, Pageable.unpaged(),
+                new CreateOrderRequestDto("Kyiv, Main street 1"));
+
+        //Then
+        ArgumentCaptor<OrderSummary> summary = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(entityManager).persist(summary.capture());
+        assertEquals(1L, summary.getValue().getId());
+        assertEquals(10L, summary.getValue().getUserId());
+        assertEquals(Order.Status.PENDING, summary.getValue().getStatus());
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(summary.getValue().getTotal()));
+        assertEquals(2, summary.getValue().getItemCount());
+        assertEquals("1:1,3:4", summary.getValue().getLineItems());
+    }
+
+    @Test
+    @DisplayName("""
+            Copy a changed order status to the order summary
+            """)
+    void updateOrderStatus_ValidStatus_UpdatesOrderSummary() {
+        //Given
+        Order order = new Order();
+        order.setId(1L);
+        order.setStatus(Order.Status.PENDING);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        //When
+        orderService.updateOrderStatus(1L, new UpdateOrderRequestDto(Order.Status.CONFIRMED));
+
+        //Then
+        verify(orderSummaryRepository).updateStatus(1L, Order.Status.CONFIRMED);
+    }
+
+    private static CartItem cartItem(Long bookId, int price, int quantity) {
+        return new CartItem()
+                .setBook(new Book().setId(bookId).setPrice(BigDecimal.valueOf(price)))
+                .setQuantity(quantity);
+    }
+}
@@ -80,7 +80,7 @@ public class ShoppingCartServiceTest {
         //Then
         assertNotNull(actual);
         assertEquals(expected, actual);
-        verify(shoppingCartRepository, times(2)).findByUserId(user.getId());
+        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
         verify(shoppingCartMapper, times(1)).toDto(shoppingCart);
         verify(cartItemRepository, times(1)).findListByShoppingCartId(expected.getId(), pageable);
         verify(cartItemMapper, times(1)).toDto(cartItem);
@@ -135,6 +135,7 @@ public class ShoppingCartServiceTest {
         verify(bookRepository, times(1)).findById(requestDto.bookId());
         verify(cartItemMapper, times(1)).toEntity(requestDto);
         verify(cartItemMapper, times(1)).toDto(cartItem);
+        verify(shoppingCartRepository, times(1)).incrementVersion(shoppingCart.getId());
     }
 
     @Test
@@ -173,9 +174,8 @@ public class ShoppingCartServiceTest {
                 cartItem.getBook().getTitle(),
                 10);
 
-        when(cartItemRepository.findById(cartItem.getId()))
+        when(cartItemRepository.findByIdAndShoppingCartId(cartItem.getId(), user.getId()))
                 .thenReturn(Optional.of(cartItem));
-        when(cartItemRepository.findAll()).thenReturn(List.of(cartItem));
         when(cartItemMapper.toDto(cartItem)).thenReturn(expected);
 
         //When
@@ -185,9 +185,10 @@ public class ShoppingCartServiceTest {
         //Then
         assertNotNull(actual);
         assertEquals(expected, actual);
-        verify(cartItemRepository, times(2)).findById(cartItem.getId());
-        verify(cartItemRepository, times(1)).findAll();
+        verify(cartItemRepository, times(1))
+                .findByIdAndShoppingCartId(cartItem.getId(), user.getId());
         verify(cartItemMapper, times(1)).toDto(cartItem);
+        verify(shoppingCartRepository, times(1)).incrementVersion(user.getId());
     }
 
     @Test
@@ -202,13 +203,14 @@ public class ShoppingCartServiceTest {
         CartItem cartItem = getCartItem(shoppingCart, book);
         UpdateCartItemRequestDto updateRequestDto = new UpdateCartItemRequestDto(10);
 
-        when(cartItemRepository.findById(cartItem.getId()))
+        when(cartItemRepository.findByIdAndShoppingCartId(cartItem.getId(), user.getId()))
                 .thenReturn(Optional.empty());
 
         //Then
         assertThrows(EntityNotFoundException.class, () -> shoppingCartService
                 .updateBookInShoppingCart(user, cartItem.getId(), updateRequestDto));
-        verify(cartItemRepository, times(1)).findById(cartItem.getId());
+        verify(cartItemRepository, times(1))
+                .findByIdAndShoppingCartId(cartItem.getId(), user.getId());
     }
 
     @Test
@@ -222,17 +224,17 @@ public class ShoppingCartServiceTest {
         Book book = getBook();
         CartItem cartItem = getCartItem(shoppingCart, book);
 
-        when(cartItemRepository.findById(cartItem.getId()))
+        when(cartItemRepository.findByIdAndShoppingCartId(cartItem.getId(), user.getId()))
                 .thenReturn(Optional.of(cartItem));
-        when(cartItemRepository.findAll()).thenReturn(List.of(cartItem));
 
         //When
         shoppingCartService.deleteBookFromShoppingCart(user, cartItem.getId());
 
         //Then
-        verify(cartItemRepository, times(2)).findById(cartItem.getId());
-        verify(cartItemRepository, times(1)).findAll();
+        verify(cartItemRepository, times(1))
+                .findByIdAndShoppingCartId(cartItem.getId(), user.getId());
         verify(cartItemRepository, times(1)).delete(cartItem);
+        verify(shoppingCartRepository, times(1)).incrementVersion(user.getId());
     }
 
     @Test
@@ -246,14 +248,15 @@ public class ShoppingCartServiceTest {
         Book book = getBook();
         CartItem cartItem = getCartItem(shoppingCart, book);
 
-        when(cartItemRepository.findById(cartItem.getId()))
+        when(cartItemRepository.findByIdAndShoppingCartId(cartItem.getId(), user.getId()))
                 .thenReturn(Optional.empty());
 
         //Then
         assertThrows(EntityNotFoundException.class, () -> {
             shoppingCartService.deleteBookFromShoppingCart(user, cartItem.getId());
         });
-        verify(cartItemRepository, times(1)).findById(cartItem.getId());
+        verify(cartItemRepository, times(1))
+                .findByIdAndShoppingCartId(cartItem.getId(), user.getId());
     }
 
     private User getTestUser() {
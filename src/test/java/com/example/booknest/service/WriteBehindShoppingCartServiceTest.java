@@ -0,0 +1,191 @@
+package com.example.booknest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.booknest.dto.cartitem.CartItemDto;
+import com.example.booknest.dto.cartitem.CreateCartItemRequestDto;
+import com.example.booknest.dto.cartitem.UpdateCartItemRequestDto;
+import com.example.booknest.dto.shoppingcart.ShoppingCartDto;
+import com.example.booknest.exception.EntityNotFoundException;
+import com.example.booknest.mapper.CartItemMapper;
+import com.example.booknest.model.Book;
+import com.example.booknest.model.ShoppingCart;
+import com.example.booknest.model.User;
+import com.example.booknest.repository.book.BookRepository;
+import com.example.booknest.repository.cartitem.CartItemRepository;
+import com.example.booknest.repository.shoppingcart.ShoppingCartRepository;
+import com.example.booknest.service.shoppingcart.CartItemWriter;
+import com.example.booknest.service.shoppingcart.WriteBehindShoppingCartService;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class WriteBehindShoppingCartServiceTest {
+    @InjectMocks
+    private WriteBehindShoppingCartService shoppingCartService;
+    @Mock
+    private ShoppingCartRepository shoppingCartRepository;
+    @Mock
+    private CartItemRepository cartItemRepository;
+    @Mock
+    private CartItemMapper cartItemMapper;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CartItemWriter cartItemWriter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(shoppingCartService, "idleTimeout", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("""
+            Serve cart changes from memory and write them once, coalesced, on flush
+            """)
+    void flushPendingChanges_SeveralChanges_WritesCoalescedQuantities() {
+        //Given
+        User user = getTestUser();
+        Book book = getBook();
+        mockEmptyShoppingCart(user);
+        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
+
+        //When
+        shoppingCartService.addBookToShoppingCart(
+                user, new CreateCartItemRequestDto(book.getId(), 1));
+        shoppingCartService.updateBookInShoppingCart(
+                user, book.getId(), new UpdateCartItemRequestDto(3));
+        ShoppingCartDto actual = shoppingCartService.findShoppingCart(user, PageRequest.of(0, 5));
+        shoppingCartService.flushPendingChanges();
+        shoppingCartService.flushPendingChanges();
+
+        //Then
+        CartItemDto expected = new CartItemDto(book.getId(), book.getId(), book.getTitle(), 3);
+        assertEquals(Set.of(expected), actual.getCartItems());
+        verify(cartItemWriter, times(1)).write(user.getId(), Map.of(book.getId(), 3));
+        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
+    }
+
+    @Test
+    @DisplayName("""
+            Write pending changes and drop the in-memory cart before checkout
+            """)
+    void flushShoppingCart_PendingChanges_WritesAndReloadsCart() {
+        //Given
+        User user = getTestUser();
+        Book book = getBook();
+        mockEmptyShoppingCart(user);
+        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
+        shoppingCartService.addBookToShoppingCart(
+                user, new CreateCartItemRequestDto(book.getId(), 2));
+
+        //When
+        shoppingCartService.flushShoppingCart(user.getId());
+        shoppingCartService.findShoppingCart(user, PageRequest.of(0, 5));
+
+        //Then
+        verify(cartItemWriter, times(1)).write(user.getId(), Map.of(book.getId(), 2));
+        verify(shoppingCartRepository, times(2)).findByUserId(user.getId());
+    }
+
+    @Test
+    @DisplayName("""
+            Keep the flushed changes in memory when the checkout transaction rolls back
+            """)
+    void flushShoppingCart_RolledBack_RequeuesChanges() {
+        //Given
+        User user = getTestUser();
+        Book book = getBook();
+        mockEmptyShoppingCart(user);
+        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
+        shoppingCartService.addBookToShoppingCart(
+                user, new CreateCartItemRequestDto(book.getId(), 2));
+
+        //When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            shoppingCartService.flushShoppingCart(user.getId());
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ShoppingCartDto actual = shoppingCartService.findShoppingCart(user, PageRequest.of(0, 5));
+        shoppingCartService.flushPendingChanges();
+
+        //Then
+        assertEquals(1, actual.getCartItems().size());
+        verify(cartItemWriter, times(2)).write(user.getId(), Map.of(book.getId(), 2));
+        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
+    }
+
+    @Test
+    @DisplayName("""
+            Throw an exception when the cart item is not in the user's cart
+            """)
+    void deleteBookFromShoppingCart_ForeignCartItem_ThrowsException() {
+        //Given
+        User user = getTestUser();
+        mockEmptyShoppingCart(user);
+
+        //When
+        Exception exception = assertThrows(EntityNotFoundException.class,
+                () -> shoppingCartService.deleteBookFromShoppingCart(user, 99L));
+
+        //Then
+        assertEquals("Can't find CartItem in the ShoppingCart by id: 99",
+                exception.getMessage());
+        shoppingCartService.flushPendingChanges();
+        verify(cartItemWriter, never()).write(any(), any());
+    }
+
+    private void mockEmptyShoppingCart(User user) {
+        when(shoppingCartRepository.findByUserId(user.getId()))
+                .thenReturn(Optional.of(new ShoppingCart().setId(user.getId()).setUser(user)));
+        when(cartItemRepository.findAllWithBookByShoppingCartId(user.getId()))
+                .thenReturn(List.of());
+    }
+
+    private User getTestUser() {
+        return new User()
+                .setId(2L)
+                .setEmail("user@i.ua")
+                .setPassword("qwerty123")
+                .setFirstName("John")
+                .setLastName("Smith")
+                .setShippingAddress("Ukraine");
+    }
+
+    private Book getBook() {
+        return new Book()
+                .setId(1L)
+                .setTitle("Sample Book 1")
+                .setAuthor("Author A")
+                .setIsbn("978-1-23-456789-7")
+                .setPrice(BigDecimal.valueOf(19.99))
+                .setDescription("This is a sample book description.")
+                .setCoverImage("http://example.com/cover1.jpg");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.booknest.statement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class StatementCountAssertions {
+    private StatementCountAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, StatementAction<T> action)
+            throws Exception {
+        T result;
+        StatementCount count;
+        try (StatementCount started = StatementCounter.start()) {
+            result = action.run();
+            count = started;
+        }
+        assertTrue(count.total() <= maxStatements, () -> String.format(
+                "Expected at most %d SQL statements, but %d were executed: %s",
+                maxStatements, count.total(), count.executionsBySql()));
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface StatementAction<T> {
+        T run() throws Exception;
+    }
+}
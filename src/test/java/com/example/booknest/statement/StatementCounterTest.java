@@ -0,0 +1,63 @@
+package com.example.booknest.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.booknest.exception.StatementBudgetExceededException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class StatementCounterTest {
+    private static final String SELECT_BOOK = "select b.id from books b where b.id=?";
+    private static final String SELECT_CATEGORY = "select c.id from categories c where c.id=?";
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    @Test
+    @DisplayName("""
+            Count statements per SQL string in every open scope
+            """)
+    void inspect_NestedScopes_CountsInEveryScope() {
+        //Given
+        final StatementCount outer = StatementCounter.start();
+        StatementCount inner = StatementCounter.start();
+
+        //When
+        inspector.inspect(SELECT_BOOK);
+        inspector.inspect(SELECT_BOOK);
+        inner.close();
+        inspector.inspect(SELECT_CATEGORY);
+        outer.close();
+        inspector.inspect(SELECT_CATEGORY);
+
+        //Then
+        assertEquals(2, inner.total());
+        assertEquals(3, outer.total());
+        assertEquals(Map.of(SELECT_BOOK, 2, SELECT_CATEGORY, 1), outer.executionsBySql());
+        assertEquals(Map.entry(SELECT_BOOK, 2), outer.mostRepeated().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("""
+            Fail the statement that exceeds the budget only when asked to
+            """)
+    void inspect_BudgetExceeded_FailsOnlyInFailMode() {
+        //Given
+        try (StatementCount logged = StatementCounter.start(1, false)) {
+            inspector.inspect(SELECT_BOOK);
+            inspector.inspect(SELECT_BOOK);
+            assertTrue(logged.exceeded());
+        }
+
+        //Then
+        try (StatementCount failing = StatementCounter.start(1, true)) {
+            inspector.inspect(SELECT_BOOK);
+            assertFalse(failing.exceeded());
+            assertThrows(StatementBudgetExceededException.class,
+                    () -> inspector.inspect(SELECT_CATEGORY));
+        }
+    }
+}
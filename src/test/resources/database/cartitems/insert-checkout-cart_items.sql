@@ -0,0 +1,3 @@
+INSERT INTO cart_items (shopping_cart_id, book_id, quantity) VALUES (2, 1, 1);
+INSERT INTO cart_items (shopping_cart_id, book_id, quantity) VALUES (2, 2, 2);
+INSERT INTO cart_items (shopping_cart_id, book_id, quantity) VALUES (2, 3, 4);
@@ -1,3 +1,6 @@
+DELETE FROM order_outbox_events;
+DELETE FROM order_summaries;
+DELETE FROM order_idempotency_keys;
 DELETE FROM order_items;
 DELETE FROM orders;
 DELETE FROM cart_items;